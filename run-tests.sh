@@ -15,6 +15,7 @@ SUITE="sanity"
 BROWSER="chrome"
 ENVIRONMENT="qa"
 HEADLESS="false"
+MATRIX=""
 
 # Parse command line arguments
 while [[ $# -gt 0 ]]; do
@@ -27,6 +28,10 @@ while [[ $# -gt 0 ]]; do
             BROWSER="$2"
             shift 2
             ;;
+        --matrix)
+            MATRIX="$2"
+            shift 2
+            ;;
         --env)
             ENVIRONMENT="$2"
             shift 2
@@ -46,6 +51,7 @@ while [[ $# -gt 0 ]]; do
             echo ""
             echo "OPTIONS:"
             echo "  --browser BROWSER    Browser to use (chrome, firefox, edge)"
+            echo "  --matrix BROWSERS    Run UI tests on several browsers at once (e.g. chrome,firefox,edge)"
             echo "  --env ENVIRONMENT    Environment (qa, uat, prod)"
             echo "  --headless          Run in headless mode"
             echo "  --help              Show this help"
@@ -63,6 +69,7 @@ echo "  Suite: $SUITE"
 echo "  Browser: $BROWSER"
 echo "  Environment: $ENVIRONMENT"
 echo "  Headless: $HEADLESS"
+echo "  Matrix: ${MATRIX:-none}"
 echo ""
 
 # Create reports directory
@@ -73,16 +80,16 @@ mkdir -p logs
 # Run tests based on suite
 case $SUITE in
     sanity)
-        mvn test -Psanity -Dbrowser=$BROWSER -Denvironment=$ENVIRONMENT -Dheadless=$HEADLESS
+        mvn test -Psanity -Dbrowser=$BROWSER -DBROWSER_MATRIX=$MATRIX -Denvironment=$ENVIRONMENT -Dheadless=$HEADLESS
         ;;
     regression)
-        mvn test -Pregression -Dbrowser=$BROWSER -Denvironment=$ENVIRONMENT -Dheadless=$HEADLESS
+        mvn test -Pregression -Dbrowser=$BROWSER -DBROWSER_MATRIX=$MATRIX -Denvironment=$ENVIRONMENT -Dheadless=$HEADLESS
         ;;
     api)
         mvn test -Pregression -Dgroups=api -Denvironment=$ENVIRONMENT
         ;;
     ui)
-        mvn test -Pregression -Dgroups=ui -Dbrowser=$BROWSER -Denvironment=$ENVIRONMENT -Dheadless=$HEADLESS
+        mvn test -Pregression -Dgroups=ui -Dbrowser=$BROWSER -DBROWSER_MATRIX=$MATRIX -Denvironment=$ENVIRONMENT -Dheadless=$HEADLESS
         ;;
     *)
         echo "Unknown suite: $SUITE"
@@ -0,0 +1,127 @@
+package com.yourorg.api.async;
+
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking API client on the JDK HttpClient
+ * A handful of threads can keep hundreds of requests in flight, bounded by a concurrency limiter
+ */
+public class AsyncApiClient {
+    private static final Logger logger = LogManager.getLogger(AsyncApiClient.class);
+    private static volatile AsyncApiClient instance;
+    
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final AsyncConcurrencyLimiter limiter;
+    private final long totalTimeoutMs;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    
+    public AsyncApiClient(int maxInFlight, int threads, Duration connectTimeout, long totalTimeoutMs) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "async-api-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.valueOf(ConfigLoader.get("api.async.http.version", "HTTP_1_1")))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.limiter = new AsyncConcurrencyLimiter(maxInFlight);
+        this.totalTimeoutMs = totalTimeoutMs;
+    }
+    
+    public static AsyncApiClient getInstance() {
+        if (instance == null) {
+            synchronized (AsyncApiClient.class) {
+                if (instance == null) {
+                    instance = new AsyncApiClient(
+                            ConfigLoader.getInt("api.async.max.in.flight", 64),
+                            ConfigLoader.getInt("api.async.threads", 4),
+                            Duration.ofMillis(ConfigLoader.getInt("api.http.connect.timeout", 10000)),
+                            ConfigLoader.getInt("api.async.total.timeout", 60000));
+                    logger.info("Async API client created - Max In Flight: {}", instance.limiter.getMaxInFlight());
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Send once a concurrency slot is free; the future also fails if queueing plus the call exceed the total timeout
+     * The slot stays taken until the exchange ends, since on Java 11 cancelling sendAsync does not abort it,
+     * so requests should carry their own timeout (AsyncRequestBuilder sets one)
+     */
+    public CompletableFuture<AsyncResponse> send(HttpRequest request) {
+        long queuedAt = System.nanoTime();
+        return limiter.submit(() -> {
+                    long start = System.nanoTime();
+                    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                            .thenApply(response -> {
+                                long timeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                                logger.debug("{} {} - Status: {}, Time: {}ms, Queued: {}ms", request.method(),
+                                        request.uri(), response.statusCode(), timeMs,
+                                        TimeUnit.NANOSECONDS.toMillis(start - queuedAt));
+                                return new AsyncResponse(response, timeMs);
+                            });
+                })
+                .orTimeout(totalTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        failed.incrementAndGet();
+                        logger.warn("{} {} failed: {}", request.method(), request.uri(), error.toString());
+                    } else {
+                        completed.incrementAndGet();
+                    }
+                });
+    }
+    
+    /**
+     * Executor for blocking preparation work (e.g. token refresh) so it stays off the caller's thread
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+    
+    public static byte[] serialize(Object body) throws Exception {
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        return JsonCodec.toBytes(body);
+    }
+    
+    public Map<String, Long> getStats() {
+        return Map.of(
+                "inFlight", (long) limiter.getInFlight(),
+                "queued", (long) limiter.getQueued(),
+                "peakInFlight", (long) limiter.getPeakInFlight(),
+                "completed", completed.get(),
+                "failed", failed.get());
+    }
+    
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
\ No newline at end of file
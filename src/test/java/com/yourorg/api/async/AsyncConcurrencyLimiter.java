@@ -0,0 +1,93 @@
+package com.yourorg.api.async;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps in-flight async requests without blocking callers
+ * Work over the limit is queued and started as earlier requests complete; queued work whose returned future
+ * already failed (e.g. orTimeout) is skipped, while running work keeps its slot until it actually finishes
+ */
+public class AsyncConcurrencyLimiter {
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    
+    public AsyncConcurrencyLimiter(int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+    
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        waiting.offer(() -> {
+            // Timed out or cancelled while queued: hand the slot straight back to the drain loop running this task
+            if (result.isDone()) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            try {
+                // The slot is held until the work itself completes, even if the caller already timed out:
+                // cancelling a future does not stop the call behind it
+                task.get().whenComplete((value, error) -> {
+                    release();
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (Throwable t) {
+                release();
+                result.completeExceptionally(t);
+            }
+        });
+        drain();
+        return result;
+    }
+    
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+    
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            
+            Runnable next = waiting.poll();
+            if (next == null) {
+                // Another thread took the queued task; give the permit back and re-check the queue
+                inFlight.decrementAndGet();
+                continue;
+            }
+            peakInFlight.accumulateAndGet(current + 1, Math::max);
+            next.run();
+        }
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    public int getQueued() {
+        return waiting.size();
+    }
+    
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+    
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.yourorg.api.async;
+
+import com.yourorg.api.validators.StatusCodeValidator;
+import io.restassured.path.json.JsonPath;
+
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response from the async client with the RestAssured-style accessors tests already use
+ */
+public class AsyncResponse {
+    private final HttpResponse<byte[]> response;
+    private final long timeMs;
+    private volatile JsonPath jsonPath;
+    
+    AsyncResponse(HttpResponse<byte[]> response, long timeMs) {
+        this.response = response;
+        this.timeMs = timeMs;
+    }
+    
+    public int getStatusCode() {
+        return response.statusCode();
+    }
+    
+    public String getHeader(String name) {
+        return response.headers().firstValue(name).orElse(null);
+    }
+    
+    public Map<String, List<String>> getHeaders() {
+        return response.headers().map();
+    }
+    
+    public byte[] asByteArray() {
+        return response.body();
+    }
+    
+    public String asString() {
+        return new String(response.body(), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Parsed once on first access and reused
+     */
+    public JsonPath jsonPath() {
+        if (jsonPath == null) {
+            jsonPath = new JsonPath(asString());
+        }
+        return jsonPath;
+    }
+    
+    /**
+     * Time from send to fully received body, in milliseconds
+     */
+    public long getTime() {
+        return timeMs;
+    }
+    
+    public String getUri() {
+        return response.uri().toString();
+    }
+    
+    /**
+     * Same check and explanation as StatusCodeValidator.validateAndExplain for RestAssured responses
+     */
+    public AsyncResponse validateAndExplain(int expectedStatus) throws Exception {
+        StatusCodeValidator.validateAndExplain(getStatusCode(), expectedStatus);
+        return this;
+    }
+}
\ No newline at end of file
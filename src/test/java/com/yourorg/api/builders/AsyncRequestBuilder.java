@@ -0,0 +1,204 @@
+package com.yourorg.api.builders;
+
+import com.yourorg.api.async.AsyncApiClient;
+import com.yourorg.api.async.AsyncResponse;
+import com.yourorg.api.managers.TokenManager;
+import com.yourorg.utils.ConfigLoader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Fluent builder for non-blocking API requests
+ * Mirrors RequestBuilder, but terminal methods return CompletableFuture responses
+ */
+public class AsyncRequestBuilder {
+    private static final Logger logger = LogManager.getLogger(AsyncRequestBuilder.class);
+    
+    private String baseUrl;
+    private String endpoint;
+    private Map<String, String> headers;
+    private Map<String, Object> queryParams;
+    private Object body;
+    private String authToken;
+    private String authRole;
+    private String contentType;
+    private int timeout;
+    private AsyncApiClient client;
+    
+    public AsyncRequestBuilder() {
+        this.headers = new HashMap<>();
+        this.queryParams = new HashMap<>();
+        this.contentType = "application/json";
+        this.timeout = ConfigLoader.getInt("api.timeout", 30000);
+    }
+    
+    public AsyncRequestBuilder baseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+        return this;
+    }
+    
+    public AsyncRequestBuilder endpoint(String endpoint) {
+        this.endpoint = endpoint;
+        return this;
+    }
+    
+    public AsyncRequestBuilder header(String key, String value) {
+        this.headers.put(key, value);
+        return this;
+    }
+    
+    public AsyncRequestBuilder headers(Map<String, String> headers) {
+        this.headers.putAll(headers);
+        return this;
+    }
+    
+    public AsyncRequestBuilder queryParam(String key, Object value) {
+        this.queryParams.put(key, value);
+        return this;
+    }
+    
+    public AsyncRequestBuilder queryParams(Map<String, Object> params) {
+        this.queryParams.putAll(params);
+        return this;
+    }
+    
+    public AsyncRequestBuilder body(Object body) {
+        this.body = body;
+        return this;
+    }
+    
+    public AsyncRequestBuilder auth(String token) {
+        this.authToken = token;
+        return this;
+    }
+    
+    /**
+     * Authenticate with a TokenManager token type; resolved on the client's executor, not the caller's thread
+     */
+    public AsyncRequestBuilder authRole(String tokenType) {
+        this.authRole = tokenType;
+        return this;
+    }
+    
+    public AsyncRequestBuilder contentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+    
+    /**
+     * Per-request timeout in milliseconds, measured until response headers arrive
+     */
+    public AsyncRequestBuilder timeout(int timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+    
+    public AsyncRequestBuilder client(AsyncApiClient client) {
+        this.client = client;
+        return this;
+    }
+    
+    public CompletableFuture<AsyncResponse> get() {
+        return send("GET");
+    }
+    
+    public CompletableFuture<AsyncResponse> post() {
+        return send("POST");
+    }
+    
+    public CompletableFuture<AsyncResponse> put() {
+        return send("PUT");
+    }
+    
+    public CompletableFuture<AsyncResponse> patch() {
+        return send("PATCH");
+    }
+    
+    public CompletableFuture<AsyncResponse> delete() {
+        return send("DELETE");
+    }
+    
+    public CompletableFuture<AsyncResponse> send(String method) {
+        AsyncApiClient activeClient = client != null ? client : AsyncApiClient.getInstance();
+        
+        if (authToken == null && authRole != null) {
+            // TokenManager may block on a refresh, so it runs on the client's executor
+            return CompletableFuture.supplyAsync(this::resolveRoleToken, activeClient.getExecutor())
+                    .thenCompose(token -> activeClient.send(buildRequest(method, token)));
+        }
+        
+        try {
+            return activeClient.send(buildRequest(method, authToken));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private String resolveRoleToken() {
+        try {
+            return TokenManager.getInstance().getValidToken(authRole);
+        } catch (Exception e) {
+            logger.error("Failed to resolve token for role {}: {}", authRole, e.getMessage());
+            throw new CompletionException(new RuntimeException("Token retrieval failed for role: " + authRole, e));
+        }
+    }
+    
+    private HttpRequest buildRequest(String method, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(buildUri())
+                .timeout(Duration.ofMillis(timeout))
+                .header("Content-Type", contentType);
+        
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        
+        headers.forEach(request::header);
+        
+        HttpRequest.BodyPublisher publisher;
+        try {
+            publisher = body != null
+                    ? HttpRequest.BodyPublishers.ofByteArray(AsyncApiClient.serialize(body))
+                    : HttpRequest.BodyPublishers.noBody();
+        } catch (Exception e) {
+            throw new CompletionException(new RuntimeException("Request body serialization failed", e));
+        }
+        request.method(method, publisher);
+        
+        logger.debug("Async request built - {} {}, Headers: {}, Params: {}",
+                method, endpoint, headers.size(), queryParams.size());
+        
+        return request.build();
+    }
+    
+    public String getFullUrl() {
+        String base = baseUrl != null ? baseUrl : ConfigLoader.get("api.base.url", "");
+        return base + (endpoint != null ? endpoint : "");
+    }
+    
+    private URI buildUri() {
+        String url = getFullUrl();
+        if (queryParams.isEmpty()) {
+            return URI.create(url);
+        }
+        
+        String query = queryParams.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(String.valueOf(entry.getValue())))
+                .collect(Collectors.joining("&"));
+        return URI.create(url + (url.contains("?") ? "&" : "?") + query);
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
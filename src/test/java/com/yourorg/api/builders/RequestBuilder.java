@@ -1,7 +1,7 @@
 package com.yourorg.api.builders;
 
+import com.yourorg.api.managers.TokenManager;
 import io.restassured.specification.RequestSpecification;
-import io.restassured.RestAssured;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,6 +21,7 @@ public class RequestBuilder {
     private Map<String, Object> queryParams;
     private Object body;
     private String authToken;
+    private String authRole;
     private String contentType;
     private int timeout;
     
@@ -71,6 +72,14 @@ public class RequestBuilder {
         return this;
     }
     
+    /**
+     * Authenticate with a TokenManager token type (admin, user, api) resolved at build time
+     */
+    public RequestBuilder authRole(String tokenType) {
+        this.authRole = tokenType;
+        return this;
+    }
+    
     public RequestBuilder contentType(String contentType) {
         this.contentType = contentType;
         return this;
@@ -82,17 +91,8 @@ public class RequestBuilder {
     }
     
     public RequestSpecification build() {
-        RequestSpecification spec = RestAssured.given();
-        
-        if (baseUrl != null) {
-            spec.baseUri(baseUrl);
-        }
-        
-        spec.contentType(contentType);
-        
-        if (authToken != null) {
-            spec.header("Authorization", "Bearer " + authToken);
-        }
+        // Base URL, content type and auth come from a shared immutable template; only per-request fields are applied here
+        RequestSpecification spec = RequestSpecTemplates.given(baseUrl, contentType, null, resolveAuthToken());
         
         headers.forEach(spec::header);
         queryParams.forEach(spec::queryParam);
@@ -110,6 +110,18 @@ public class RequestBuilder {
         return spec;
     }
     
+    private String resolveAuthToken() {
+        if (authToken != null || authRole == null) {
+            return authToken;
+        }
+        try {
+            return TokenManager.getInstance().getValidToken(authRole);
+        } catch (Exception e) {
+            logger.error("Failed to resolve token for role {}: {}", authRole, e.getMessage());
+            throw new RuntimeException("Token retrieval failed for role: " + authRole, e);
+        }
+    }
+    
     public String getFullUrl() {
         return (baseUrl != null ? baseUrl : "") + (endpoint != null ? endpoint : "");
     }
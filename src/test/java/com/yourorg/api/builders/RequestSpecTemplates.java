@@ -0,0 +1,123 @@
+package com.yourorg.api.builders;
+
+import com.yourorg.api.managers.HttpConnectionManager;
+import com.yourorg.utils.ConfigLoader;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of immutable RequestSpecification templates per base URL, content type, accept type and auth token
+ * Requests start from a fresh given().spec(template) and only overlay their own headers, params and body
+ */
+public class RequestSpecTemplates {
+    private static final Logger logger = LogManager.getLogger(RequestSpecTemplates.class);
+    private static final Map<TemplateKey, RequestSpecification> templates = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    
+    private RequestSpecTemplates() {}
+    
+    /**
+     * New request specification layered on the shared template
+     */
+    public static RequestSpecification given(String baseUrl, String contentType, String accept, String authToken) {
+        return HttpConnectionManager.getInstance().given().spec(template(baseUrl, contentType, accept, authToken));
+    }
+    
+    /**
+     * Shared cached spec; never handed out, since a caller mutating it would leak into every request with the same key
+     */
+    private static RequestSpecification template(String baseUrl, String contentType, String accept, String authToken) {
+        // RequestSpecBuilder snapshots RestAssured.baseURI, so the global default is part of the key
+        TemplateKey key = new TemplateKey(baseUrl != null ? baseUrl : RestAssured.baseURI, contentType, accept, authToken);
+        RequestSpecification template = templates.get(key);
+        if (template != null) {
+            hits.incrementAndGet();
+            return template;
+        }
+        
+        // Tokens rotate, so stale templates are dropped wholesale instead of growing without bound
+        int maxTemplates = ConfigLoader.getInt("api.spec.templates.max", 256);
+        if (templates.size() >= maxTemplates) {
+            logger.debug("Request spec template cache full ({}), clearing", templates.size());
+            templates.clear();
+        }
+        
+        misses.incrementAndGet();
+        return templates.computeIfAbsent(key, RequestSpecTemplates::buildTemplate);
+    }
+    
+    private static RequestSpecification buildTemplate(TemplateKey key) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(HttpConnectionManager.getInstance().getConfig());
+        
+        if (key.baseUrl != null) {
+            builder.setBaseUri(key.baseUrl);
+        }
+        if (key.contentType != null) {
+            builder.setContentType(key.contentType);
+        }
+        if (key.accept != null) {
+            builder.setAccept(key.accept);
+        }
+        if (key.authToken != null) {
+            builder.addHeader("Authorization", "Bearer " + key.authToken);
+        }
+        
+        logger.debug("Request spec template built - Base URL: {}, Content-Type: {}, Auth: {}",
+                key.baseUrl, key.contentType, key.authToken != null);
+        return builder.build();
+    }
+    
+    public static Map<String, Long> getStats() {
+        return Map.of("templates", (long) templates.size(), "hits", hits.get(), "misses", misses.get());
+    }
+    
+    public static void clear() {
+        templates.clear();
+    }
+    
+    private static final class TemplateKey {
+        final String baseUrl;
+        final String contentType;
+        final String accept;
+        final String authToken;
+        final int hash;
+        
+        TemplateKey(String baseUrl, String contentType, String accept, String authToken) {
+            this.baseUrl = baseUrl;
+            this.contentType = contentType;
+            this.accept = accept;
+            this.authToken = authToken;
+            this.hash = Objects.hash(baseUrl, contentType, accept, authToken);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey other = (TemplateKey) o;
+            return Objects.equals(baseUrl, other.baseUrl)
+                    && Objects.equals(contentType, other.contentType)
+                    && Objects.equals(accept, other.accept)
+                    && Objects.equals(authToken, other.authToken);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.yourorg.api.cassette;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.yourorg.utils.JsonCodec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk set of recorded interactions with an in-memory index by request key
+ * Repeated identical requests replay their recordings in order; the last one repeats once they run out
+ */
+public class Cassette {
+    private static final Logger logger = LogManager.getLogger(Cassette.class);
+    
+    private final String name;
+    private final Path file;
+    private final List<CassetteInteraction> interactions = new ArrayList<>();
+    private final Map<String, Track> index = new ConcurrentHashMap<>();
+    
+    private Cassette(String name, Path file) {
+        this.name = name;
+        this.file = file;
+    }
+    
+    public static Cassette empty(String name, Path directory) {
+        return new Cassette(name, directory.resolve(name + ".json"));
+    }
+    
+    public static Cassette load(String name, Path directory) throws IOException {
+        Cassette cassette = empty(name, directory);
+        if (!Files.exists(cassette.file)) {
+            logger.warn("Cassette not found: {}", cassette.file);
+            return cassette;
+        }
+        
+        CassetteFile stored = JsonCodec.reader(CassetteFile.class).readValue(cassette.file.toFile());
+        stored.interactions.forEach(cassette::add);
+        logger.info("Cassette loaded - Name: {}, Interactions: {}, Keys: {}",
+                name, cassette.interactions.size(), cassette.index.size());
+        return cassette;
+    }
+    
+    public void add(CassetteInteraction interaction) {
+        synchronized (interactions) {
+            interactions.add(interaction);
+        }
+        index.computeIfAbsent(interaction.getKey(), key -> new Track()).add(interaction);
+    }
+    
+    /**
+     * Next recording for the key, or null on a miss
+     */
+    public CassetteInteraction next(String key) {
+        Track track = index.get(key);
+        return track != null ? track.next() : null;
+    }
+    
+    /**
+     * Recorded keys for the same method and path, to explain why a request missed
+     */
+    public List<String> candidates(String key) {
+        String route = CassetteRedactor.route(key);
+        List<String> candidates = new ArrayList<>();
+        for (String recorded : index.keySet()) {
+            if (CassetteRedactor.route(recorded).equals(route)) {
+                candidates.add(recorded);
+            }
+        }
+        return candidates;
+    }
+    
+    /**
+     * Keys that were recorded but never replayed
+     */
+    public List<String> getUnplayedKeys() {
+        List<String> unplayed = new ArrayList<>();
+        index.forEach((key, track) -> {
+            if (track.cursor.get() == 0) {
+                unplayed.add(key);
+            }
+        });
+        return unplayed;
+    }
+    
+    /**
+     * Written to a temp file and moved into place; interactions are grouped by key, keeping their recorded order
+     */
+    public void save() throws IOException {
+        CassetteFile stored = new CassetteFile();
+        stored.name = name;
+        stored.recordedAt = Instant.now().toString();
+        synchronized (interactions) {
+            stored.interactions = new ArrayList<>(interactions);
+        }
+        stored.interactions.sort(Comparator.comparing(CassetteInteraction::getKey));
+        
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        JsonCodec.prettyWriter().writeValue(temp.toFile(), stored);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Cassette saved - Name: {}, Interactions: {}, File: {}", name, stored.interactions.size(), file);
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Path getFile() {
+        return file;
+    }
+    
+    public int size() {
+        synchronized (interactions) {
+            return interactions.size();
+        }
+    }
+    
+    private static final class Track {
+        private final List<CassetteInteraction> recordings = new ArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger();
+        
+        synchronized void add(CassetteInteraction interaction) {
+            recordings.add(interaction);
+        }
+        
+        synchronized CassetteInteraction next() {
+            int position = cursor.getAndIncrement();
+            return recordings.get(Math.min(position, recordings.size() - 1));
+        }
+    }
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class CassetteFile {
+        public String name;
+        public String recordedAt;
+        public List<CassetteInteraction> interactions = new ArrayList<>();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.yourorg.api.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RestAssured filter that records responses into a cassette or serves them from it without touching the network
+ */
+public class CassetteFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(CassetteFilter.class);
+    private static final int MAX_REPORTED_MISSES = 100;
+    
+    private final CassetteMode mode;
+    private final Cassette cassette;
+    private final CassetteRedactor redactor;
+    private final boolean liveOnMiss;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final Map<String, List<String>> missReport = new LinkedHashMap<>();
+    
+    /**
+     * @param liveOnMiss in replay mode, send unmatched requests to the real API and record them instead of failing
+     */
+    public CassetteFilter(CassetteMode mode, Cassette cassette, CassetteRedactor redactor, boolean liveOnMiss) {
+        this.mode = mode;
+        this.cassette = cassette;
+        this.redactor = redactor;
+        this.liveOnMiss = liveOnMiss;
+    }
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String normalizedBody = redactor.normalizeBody(bodyOf(requestSpec));
+        String key = redactor.key(requestSpec.getMethod(), requestSpec.getURI(), normalizedBody);
+        
+        if (mode == CassetteMode.REPLAY) {
+            CassetteInteraction interaction = cassette.next(key);
+            if (interaction != null) {
+                hits.incrementAndGet();
+                return toResponse(interaction);
+            }
+            
+            misses.incrementAndGet();
+            List<String> candidates = cassette.candidates(key);
+            reportMiss(key, candidates);
+            if (!liveOnMiss) {
+                throw new IllegalStateException("Cassette miss in " + cassette.getName() + ": " + key
+                        + (candidates.isEmpty() ? " (no recordings for this route)" : " (recorded: " + candidates + ")"));
+            }
+            logger.warn("Cassette miss, calling live API: {}", key);
+        }
+        
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        cassette.add(toInteraction(key, requestSpec, normalizedBody, response, (System.nanoTime() - start) / 1_000_000));
+        recorded.incrementAndGet();
+        return response;
+    }
+    
+    private static String bodyOf(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return String.valueOf(body);
+    }
+    
+    private CassetteInteraction toInteraction(String key, FilterableRequestSpecification requestSpec,
+                                              String normalizedBody, Response response, long timeMs) {
+        CassetteInteraction interaction = new CassetteInteraction();
+        interaction.setKey(key);
+        interaction.setMethod(requestSpec.getMethod());
+        // Stored without host and with redacted query values, like the key
+        String requestLine = key.substring(0, key.lastIndexOf(" #"));
+        interaction.setUri(requestLine.substring(requestLine.indexOf(' ') + 1));
+        interaction.setRequestBody(normalizedBody);
+        interaction.setStatus(response.getStatusCode());
+        interaction.setStatusLine(response.getStatusLine());
+        interaction.setContentType(response.getContentType());
+        interaction.setTimeMs(timeMs);
+        
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            String value = redactor.isRedactedHeader(header.getName()) ? CassetteRedactor.REDACTED : header.getValue();
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(value);
+        }
+        interaction.setHeaders(headers);
+        
+        byte[] body = response.asByteArray();
+        if (isText(response.getContentType())) {
+            interaction.setBody(redactor.redactBody(new String(body, StandardCharsets.UTF_8)));
+        } else if (body.length > 0) {
+            interaction.setBody(Base64.getEncoder().encodeToString(body));
+            interaction.setBodyBase64(true);
+        }
+        return interaction;
+    }
+    
+    private static Response toResponse(CassetteInteraction interaction) {
+        List<Header> headers = new ArrayList<>();
+        interaction.getHeaders().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.getStatus())
+                .setHeaders(new Headers(headers));
+        if (interaction.getStatusLine() != null) {
+            builder.setStatusLine(interaction.getStatusLine());
+        }
+        if (interaction.getContentType() != null && !interaction.getContentType().isEmpty()) {
+            builder.setContentType(interaction.getContentType());
+        }
+        if (interaction.getBody() != null) {
+            builder.setBody(interaction.isBodyBase64()
+                    ? Base64.getDecoder().decode(interaction.getBody())
+                    : interaction.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+        return builder.build();
+    }
+    
+    private static boolean isText(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return true;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml")
+                || type.contains("javascript") || type.contains("x-www-form-urlencoded");
+    }
+    
+    private void reportMiss(String key, List<String> candidates) {
+        synchronized (missReport) {
+            if (missReport.size() < MAX_REPORTED_MISSES) {
+                missReport.putIfAbsent(key, candidates);
+            }
+        }
+    }
+    
+    /**
+     * Missed request keys with the recorded keys for the same method and path
+     */
+    public Map<String, List<String>> getMisses() {
+        synchronized (missReport) {
+            return new LinkedHashMap<>(missReport);
+        }
+    }
+    
+    public Map<String, Long> getStats() {
+        return Map.of("hits", hits.get(), "misses", misses.get(), "recorded", recorded.get());
+    }
+    
+    public CassetteMode getMode() {
+        return mode;
+    }
+    
+    public Cassette getCassette() {
+        return cassette;
+    }
+}
\ No newline at end of file
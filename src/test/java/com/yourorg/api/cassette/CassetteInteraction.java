@@ -0,0 +1,50 @@
+package com.yourorg.api.cassette;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One recorded request/response pair; request fields are stored in their redacted, normalized form
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CassetteInteraction {
+    private String key;
+    private String method;
+    private String uri;
+    private String requestBody;
+    private int status;
+    private String statusLine;
+    private String contentType;
+    private Map<String, List<String>> headers = new LinkedHashMap<>();
+    private String body;
+    private boolean bodyBase64;
+    private long timeMs;
+    
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+    public String getUri() { return uri; }
+    public void setUri(String uri) { this.uri = uri; }
+    public String getRequestBody() { return requestBody; }
+    public void setRequestBody(String requestBody) { this.requestBody = requestBody; }
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+    public String getStatusLine() { return statusLine; }
+    public void setStatusLine(String statusLine) { this.statusLine = statusLine; }
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    public Map<String, List<String>> getHeaders() { return headers; }
+    public void setHeaders(Map<String, List<String>> headers) { this.headers = headers; }
+    public String getBody() { return body; }
+    public void setBody(String body) { this.body = body; }
+    public boolean isBodyBase64() { return bodyBase64; }
+    public void setBodyBase64(boolean bodyBase64) { this.bodyBase64 = bodyBase64; }
+    public long getTimeMs() { return timeMs; }
+    public void setTimeMs(long timeMs) { this.timeMs = timeMs; }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.yourorg.api.cassette;
+
+import com.yourorg.utils.ConfigLoader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Owns the active cassette and its filter for the run; HttpConnectionManager attaches the filter to every request
+ */
+public class CassetteManager {
+    private static final Logger logger = LogManager.getLogger(CassetteManager.class);
+    private static final CassetteMode MODE = CassetteMode.fromConfig();
+    private static volatile CassetteManager instance;
+    
+    private final CassetteFilter filter;
+    
+    private CassetteManager(CassetteMode mode) {
+        String name = ConfigLoader.get("api.cassette.name", "api");
+        Path directory = Paths.get(ConfigLoader.get("api.cassette.dir", "target/cassettes"));
+        boolean liveOnMiss = "live".equalsIgnoreCase(ConfigLoader.get("api.cassette.replay.on.miss", "fail"));
+        
+        Cassette cassette;
+        try {
+            cassette = mode == CassetteMode.REPLAY ? Cassette.load(name, directory) : Cassette.empty(name, directory);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load cassette " + name + " from " + directory, e);
+        }
+        
+        filter = new CassetteFilter(mode, cassette, CassetteRedactor.fromConfig(), liveOnMiss);
+        logger.info("Cassette mode {} - Name: {}, File: {}, Live On Miss: {}", mode, name, cassette.getFile(), liveOnMiss);
+    }
+    
+    /**
+     * Manager for the configured mode, or null when cassettes are off
+     */
+    public static CassetteManager getInstance() {
+        if (instance == null) {
+            if (MODE == CassetteMode.OFF) {
+                return null;
+            }
+            synchronized (CassetteManager.class) {
+                if (instance == null) {
+                    instance = new CassetteManager(MODE);
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public static boolean isInitialized() {
+        return instance != null;
+    }
+    
+    public CassetteFilter getFilter() {
+        return filter;
+    }
+    
+    /**
+     * Save recordings (record mode, or replay with live misses) and report misses and unplayed recordings
+     */
+    public void finish() {
+        Cassette cassette = filter.getCassette();
+        if (filter.getStats().get("recorded") > 0) {
+            try {
+                cassette.save();
+            } catch (Exception e) {
+                logger.error("Failed to save cassette {}: {}", cassette.getName(), e.getMessage());
+            }
+        }
+        
+        logger.info("Cassette Summary [{}] - Mode: {}, {}", cassette.getName(), filter.getMode(), filter.getStats());
+        filter.getMisses().forEach((key, candidates) ->
+                logger.warn("Cassette miss: {} - recorded for route: {}", key, candidates));
+        if (filter.getMode() == CassetteMode.REPLAY) {
+            int unplayed = cassette.getUnplayedKeys().size();
+            if (unplayed > 0) {
+                logger.info("Cassette {} has {} recorded requests that were not replayed", cassette.getName(), unplayed);
+            }
+        }
+    }
+}
\ No newline at end of file
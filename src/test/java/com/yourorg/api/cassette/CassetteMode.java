@@ -0,0 +1,25 @@
+package com.yourorg.api.cassette;
+
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.EnvReader;
+
+/**
+ * Cassette mode for RestAssured traffic: pass through, record to disk, or replay from disk
+ */
+public enum CassetteMode {
+    OFF,
+    RECORD,
+    REPLAY;
+    
+    /**
+     * API_CASSETTE_MODE environment/system property, then api.cassette.mode
+     */
+    public static CassetteMode fromConfig() {
+        String mode = EnvReader.get("API_CASSETTE_MODE", ConfigLoader.get("api.cassette.mode", "off"));
+        try {
+            return valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return OFF;
+        }
+    }
+}
\ No newline at end of file
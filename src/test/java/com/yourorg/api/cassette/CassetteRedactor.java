@@ -0,0 +1,186 @@
+package com.yourorg.api.cassette;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Normalizes requests into cassette keys: METHOD path?sorted-query #sha256(body)
+ * Configured headers, query params and JSON body fields (tokens, timestamps, nonces) are redacted before matching;
+ * recorded responses get the same headers and a separate, secrets-only list of body fields redacted
+ */
+public class CassetteRedactor {
+    static final String REDACTED = "<redacted>";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private final Set<String> headers;
+    private final Set<String> params;
+    private final Set<String> fields;
+    private final Set<String> responseFields;
+    private final ObjectWriter canonicalWriter;
+    
+    /**
+     * @param fields JSON fields ignored when matching request bodies
+     * @param responseFields JSON fields blanked in recorded response bodies; secrets only, since replayed
+     *                       responses must keep their data fields
+     */
+    public CassetteRedactor(Set<String> headers, Set<String> params, Set<String> fields, Set<String> responseFields) {
+        this.headers = lowerCase(headers);
+        this.params = lowerCase(params);
+        this.fields = lowerCase(fields);
+        this.responseFields = lowerCase(responseFields);
+        this.canonicalWriter = JsonCodec.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+    
+    public static CassetteRedactor fromConfig() {
+        return new CassetteRedactor(
+                split(ConfigLoader.get("api.cassette.redact.headers", "Authorization,Cookie,Set-Cookie")),
+                split(ConfigLoader.get("api.cassette.redact.params", "timestamp,ts,nonce,signature")),
+                split(ConfigLoader.get("api.cassette.redact.fields",
+                        "token,accessToken,refreshToken,password,timestamp,createdAt,updatedAt")),
+                split(ConfigLoader.get("api.cassette.redact.response.fields",
+                        "token,accessToken,refreshToken,password")));
+    }
+    
+    /**
+     * Matching key for a request; the same request with different tokens or timestamps yields the same key
+     */
+    public String key(String method, String uri, String normalizedBody) {
+        URI parsed = URI.create(uri);
+        String path = parsed.getRawPath() != null && !parsed.getRawPath().isEmpty() ? parsed.getRawPath() : "/";
+        String query = normalizeQuery(parsed.getRawQuery());
+        String bodyHash = normalizedBody == null || normalizedBody.isEmpty() ? "-" : sha256(normalizedBody);
+        return method.toUpperCase(Locale.ROOT) + " " + path + (query.isEmpty() ? "" : "?" + query) + " #" + bodyHash;
+    }
+    
+    /**
+     * Key prefix shared by every request to the same method and path, used to explain misses
+     */
+    public static String route(String key) {
+        int query = key.indexOf('?');
+        int hash = key.indexOf(" #");
+        return key.substring(0, query >= 0 && query < hash ? query : hash);
+    }
+    
+    /**
+     * Query string with redacted values, sorted by name and value
+     */
+    public String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        List<String> pairs = new ArrayList<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = equals >= 0 ? pair.substring(0, equals) : pair;
+            pairs.add(params.contains(name.toLowerCase(Locale.ROOT)) ? name + "=" + REDACTED : pair);
+        }
+        Collections.sort(pairs);
+        return String.join("&", pairs);
+    }
+    
+    /**
+     * JSON bodies are re-serialized with sorted keys and redacted fields; anything else is kept as is
+     */
+    public String normalizeBody(String body) {
+        if (body == null || body.isEmpty()) {
+            return body;
+        }
+        char first = body.trim().isEmpty() ? ' ' : body.trim().charAt(0);
+        if (first != '{' && first != '[') {
+            return body;
+        }
+        try {
+            return canonicalWriter.writeValueAsString(redact(JsonCodec.mapper().readValue(body, Object.class), fields));
+        } catch (Exception e) {
+            return body;
+        }
+    }
+    
+    /**
+     * Recorded JSON response body with the response fields redacted, keeping its key order; anything else is kept as is
+     */
+    public String redactBody(String body) {
+        if (body == null || body.isEmpty() || responseFields.isEmpty()) {
+            return body;
+        }
+        char first = body.trim().isEmpty() ? ' ' : body.trim().charAt(0);
+        if (first != '{' && first != '[') {
+            return body;
+        }
+        try {
+            return JsonCodec.mapper().writeValueAsString(
+                    redact(JsonCodec.mapper().readValue(body, Object.class), responseFields));
+        } catch (Exception e) {
+            return body;
+        }
+    }
+    
+    public boolean isRedactedHeader(String name) {
+        return headers.contains(name.toLowerCase(Locale.ROOT));
+    }
+    
+    private static Object redact(Object value, Set<String> fields) {
+        if (value instanceof Map) {
+            Map<String, Object> redacted = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((name, nested) -> redacted.put(String.valueOf(name),
+                    fields.contains(String.valueOf(name).toLowerCase(Locale.ROOT))
+                            ? REDACTED
+                            : redact(nested, fields)));
+            return redacted;
+        }
+        if (value instanceof List) {
+            List<Object> redacted = new ArrayList<>();
+            ((List<?>) value).forEach(nested -> redacted.add(redact(nested, fields)));
+            return redacted;
+        }
+        return value;
+    }
+    
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private static Set<String> split(String value) {
+        Set<String> values = new HashSet<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                values.add(item.trim());
+            }
+        }
+        return values;
+    }
+    
+    private static Set<String> lowerCase(Set<String> values) {
+        Set<String> lower = new HashSet<>();
+        values.forEach(value -> lower.add(value.toLowerCase(Locale.ROOT)));
+        return lower;
+    }
+}
\ No newline at end of file
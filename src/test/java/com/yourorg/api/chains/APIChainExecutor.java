@@ -1,13 +1,25 @@
 package com.yourorg.api.chains;
 
 import com.yourorg.api.builders.RequestBuilder;
+import com.yourorg.api.json.ExtractionPlan;
+import com.yourorg.api.json.ParsedResponse;
 import com.yourorg.api.managers.ResponseManager;
 import com.yourorg.api.managers.TokenManager;
+import com.yourorg.utils.ConfigLoader;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -16,42 +28,55 @@ import java.util.function.Function;
  */
 public class APIChainExecutor {
     private static final Logger logger = LogManager.getLogger(APIChainExecutor.class);
+    private static final Map<String, Map<String, Set<String>>> observedProduces = new ConcurrentHashMap<>();
+    private static volatile ExecutorService sharedStepExecutor;
     private final ResponseManager responseManager;
     private final TokenManager tokenManager;
     private final Map<String, Object> chainContext;
+    private final Executor stepExecutor;
     
     public APIChainExecutor() {
+        this(null);
+    }
+    
+    /**
+     * @param stepExecutor executor for independent steps; null uses the shared pool sized by api.chain.parallelism
+     */
+    public APIChainExecutor(Executor stepExecutor) {
         this.responseManager = new ResponseManager();
         this.tokenManager = TokenManager.getInstance();
-        this.chainContext = new HashMap<>();
+        this.chainContext = new ConcurrentHashMap<>();
+        this.stepExecutor = stepExecutor;
     }
     
     /**
      * Execute a chained flow of POST, GET, and DELETE requests
+     * Steps run as a dependency graph: independent steps run concurrently, dependent ones wait for their inputs
      */
     public ChainResult executeChain(ChainDefinition chainDefinition) throws Exception {
+        return executeChain(chainDefinition, new ChainResult(chainDefinition.getName()));
+    }
+    
+    /**
+     * Execute into a caller-supplied result, so timings and partial step results survive a failed chain
+     */
+    public ChainResult executeChain(ChainDefinition chainDefinition, ChainResult result) throws Exception {
         logger.info("Starting API chain execution: {}", chainDefinition.getName());
         
-        ChainResult result = new ChainResult(chainDefinition.getName());
+        long chainStart = System.nanoTime();
+        ChainGraph graph = null;
         
         try {
-            for (ChainStep step : chainDefinition.getSteps()) {
-                logger.info("Executing step: {} - {}", step.getName(), step.getMethod());
-                
-                Response response = executeStep(step);
-                result.addStepResult(step.getName(), response);
-                
-                // Extract data for next steps
-                if (step.getDataExtractor() != null) {
-                    Map<String, Object> extractedData = step.getDataExtractor().apply(response);
-                    chainContext.putAll(extractedData);
-                    logger.debug("Extracted data for chain context: {}", extractedData.keySet());
-                }
-                
-                // Validate response
-                if (step.getValidator() != null && !step.getValidator().apply(response)) {
-                    throw new Exception("Step validation failed: " + step.getName());
+            graph = ChainGraph.build(chainDefinition.getSteps(), chainContext.keySet(),
+                    observedProduces.getOrDefault(chainDefinition.getName(), Map.of()));
+            logger.debug("Chain dependencies: {}", graph.describe());
+            
+            if (ConfigLoader.getInt("api.chain.parallelism", 4) <= 1) {
+                for (ChainStep step : chainDefinition.getSteps()) {
+                    runStep(chainDefinition.getName(), step, result, chainStart);
                 }
+            } else {
+                runGraph(chainDefinition.getName(), graph, result, chainStart);
             }
             
             result.setSuccess(true);
@@ -62,15 +87,118 @@ public class APIChainExecutor {
             result.setError(e.getMessage());
             logger.error("API chain failed: {}", e.getMessage());
             throw e;
+        } finally {
+            result.setWallTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chainStart));
+            if (graph != null) {
+                result.setCriticalPath(graph.criticalPath(result.getStepDurations()));
+            }
+            logger.info("Chain timing - Wall: {}ms, Sequential: {}ms, Critical path: {} ({}ms)",
+                    result.getWallTimeMs(), result.getTotalStepTimeMs(),
+                    result.getCriticalPath(), result.getCriticalPathMs());
         }
         
         return result;
     }
     
+    private void runGraph(String chainName, ChainGraph graph, ChainResult result, long chainStart) throws Exception {
+        List<ChainStep> steps = graph.getSteps();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[steps.size()];
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Executor executor = stepExecutor != null ? stepExecutor : sharedStepExecutor();
+        
+        for (int index : graph.getTopologicalOrder()) {
+            ChainStep step = steps.get(index);
+            CompletableFuture<?>[] dependencies = graph.getDependencies(index).stream()
+                    .map(dependency -> futures[dependency])
+                    .toArray(CompletableFuture<?>[]::new);
+            
+            futures[index] = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                // Once any step fails, steps that have not started yet are skipped
+                if (failure.get() != null) {
+                    return;
+                }
+                try {
+                    runStep(chainName, step, result, chainStart);
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (failure.get() == null) {
+                throw new Exception("Chain step execution failed", e.getCause());
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+    
+    private void runStep(String chainName, ChainStep step, ChainResult result, long chainStart) throws Exception {
+        logger.info("Executing step: {} - {}", step.getName(), step.getMethod());
+        
+        long stepStart = System.nanoTime();
+        Response response = executeStep(step);
+        long stepEnd = System.nanoTime();
+        result.addStepResult(step.getName(), response);
+        result.addStepTiming(step.getName(), TimeUnit.NANOSECONDS.toMillis(stepStart - chainStart),
+                TimeUnit.NANOSECONDS.toMillis(stepEnd - stepStart));
+        
+        // Extract data for next steps: declared paths in one pass, then any custom extractor
+        ExtractionPlan extractionPlan = step.extractionPlan();
+        if (extractionPlan != null || step.getDataExtractor() != null) {
+            Map<String, Object> extractedData = new HashMap<>();
+            if (extractionPlan != null) {
+                extractedData.putAll(extractionPlan.evaluate(ParsedResponse.of(response).bytes()));
+            }
+            if (step.getDataExtractor() != null) {
+                extractedData.putAll(step.getDataExtractor().apply(response));
+            }
+            extractedData.forEach((key, value) -> {
+                if (value != null) {
+                    chainContext.put(key, value);
+                }
+            });
+            // Remember what the extractor produced so later runs of this chain can schedule without declarations
+            observedProduces.computeIfAbsent(chainName, name -> new ConcurrentHashMap<>())
+                    .put(step.getName(), Set.copyOf(extractedData.keySet()));
+            logger.debug("Extracted data for chain context: {}", extractedData.keySet());
+        }
+        
+        // Validate response
+        if (step.getValidator() != null && !step.getValidator().apply(response)) {
+            throw new Exception("Step validation failed: " + step.getName());
+        }
+    }
+    
+    private static ExecutorService sharedStepExecutor() {
+        if (sharedStepExecutor == null) {
+            synchronized (APIChainExecutor.class) {
+                if (sharedStepExecutor == null) {
+                    AtomicInteger threadCounter = new AtomicInteger();
+                    sharedStepExecutor = Executors.newFixedThreadPool(
+                            Math.max(1, ConfigLoader.getInt("api.chain.parallelism", 4)), runnable -> {
+                                Thread thread = new Thread(runnable, "chain-step-" + threadCounter.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                }
+            }
+        }
+        return sharedStepExecutor;
+    }
+    
     private Response executeStep(ChainStep step) throws Exception {
+        CompiledStep plan = step.compiled();
+        String endpoint = plan.renderEndpoint(chainContext);
+        
         RequestBuilder builder = new RequestBuilder()
                 .baseUrl(step.getBaseUrl())
-                .endpoint(step.getEndpoint())
+                .endpoint(endpoint)
                 .contentType("application/json");
         
         // Add authentication if required
@@ -79,18 +207,11 @@ public class APIChainExecutor {
             builder.auth(token);
         }
         
-        // Add headers
-        if (step.getHeaders() != null) {
-            builder.headers(step.getHeaders());
-        }
+        // Headers, query parameters and body rendered from the compiled placeholder plan
+        builder.headers(plan.renderHeaders(chainContext));
+        builder.queryParams(plan.renderQueryParams(chainContext));
         
-        // Add query parameters
-        if (step.getQueryParams() != null) {
-            builder.queryParams(step.getQueryParams());
-        }
-        
-        // Prepare body with context substitution
-        Object body = prepareBody(step.getBody());
+        Object body = plan.renderBody(chainContext);
         if (body != null) {
             builder.body(body);
         }
@@ -98,46 +219,20 @@ public class APIChainExecutor {
         // Execute request based on method
         switch (step.getMethod().toUpperCase()) {
             case "POST":
-                return builder.build().post(step.getEndpoint());
+                return builder.build().post(endpoint);
             case "GET":
-                return builder.build().get(step.getEndpoint());
+                return builder.build().get(endpoint);
             case "PUT":
-                return builder.build().put(step.getEndpoint());
+                return builder.build().put(endpoint);
             case "DELETE":
-                return builder.build().delete(step.getEndpoint());
+                return builder.build().delete(endpoint);
             case "PATCH":
-                return builder.build().patch(step.getEndpoint());
+                return builder.build().patch(endpoint);
             default:
                 throw new Exception("Unsupported HTTP method: " + step.getMethod());
         }
     }
     
-    private Object prepareBody(Object originalBody) {
-        if (originalBody == null) {
-            return null;
-        }
-        
-        if (originalBody instanceof Map) {
-            Map<String, Object> bodyMap = new HashMap<>((Map<String, Object>) originalBody);
-            
-            // Replace placeholders with context values
-            bodyMap.replaceAll((key, value) -> {
-                if (value instanceof String) {
-                    String stringValue = (String) value;
-                    if (stringValue.startsWith("${") && stringValue.endsWith("}")) {
-                        String contextKey = stringValue.substring(2, stringValue.length() - 1);
-                        return chainContext.getOrDefault(contextKey, value);
-                    }
-                }
-                return value;
-            });
-            
-            return bodyMap;
-        }
-        
-        return originalBody;
-    }
-    
     /**
      * Create a standard CRUD chain
      */
@@ -148,7 +243,7 @@ public class APIChainExecutor {
         ChainStep createStep = new ChainStep("create_" + resourceName, "POST", "/" + resourceName)
                 .body(createData)
                 .requiresAuth(true)
-                .dataExtractor(response -> Map.of("resourceId", response.jsonPath().getString("id")))
+                .extract("resourceId", "id")
                 .validator(response -> response.getStatusCode() == 201);
         
         // Step 2: Get created resource
@@ -187,10 +282,8 @@ public class APIChainExecutor {
         ChainStep createOrder = new ChainStep("create_order", "POST", "/orders")
                 .body(orderData)
                 .requiresAuth(true)
-                .dataExtractor(response -> Map.of(
-                        "orderId", response.jsonPath().getString("id"),
-                        "orderNumber", response.jsonPath().getString("orderNumber")
-                ))
+                .extract("orderId", "id")
+                .extract("orderNumber", "orderNumber")
                 .validator(response -> response.getStatusCode() == 201);
         
         // Step 2: Process payment
@@ -201,7 +294,7 @@ public class APIChainExecutor {
                         "method", "credit_card"
                 ))
                 .requiresAuth(true)
-                .dataExtractor(response -> Map.of("paymentId", response.jsonPath().getString("id")))
+                .extract("paymentId", "id")
                 .validator(response -> response.getStatusCode() == 200);
         
         // Step 3: Confirm order
@@ -214,7 +307,7 @@ public class APIChainExecutor {
         ChainStep getOrderStatus = new ChainStep("get_order_status", "GET", "/orders/${orderId}")
                 .requiresAuth(true)
                 .validator(response -> {
-                    String status = response.jsonPath().getString("status");
+                    String status = ParsedResponse.of(response).jsonPath().getString("status");
                     return "confirmed".equals(status) || "processing".equals(status);
                 });
         
@@ -226,6 +319,17 @@ public class APIChainExecutor {
         return chain;
     }
     
+    /**
+     * Seed the chain context, e.g. with values placeholders need that no step produces
+     */
+    public void putContext(Map<String, Object> values) {
+        values.forEach((key, value) -> {
+            if (value != null) {
+                chainContext.put(key, value);
+            }
+        });
+    }
+    
     public void clearContext() {
         chainContext.clear();
         logger.debug("Chain context cleared");
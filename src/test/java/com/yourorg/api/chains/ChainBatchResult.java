@@ -0,0 +1,139 @@
+package com.yourorg.api.chains;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregated outcome of a chain batch: success rate, chain and per-step latency percentiles, error counts
+ * Only aggregates and a bounded sample of failed results are kept, so large sweeps do not hold every response
+ */
+public class ChainBatchResult {
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final Map<String, List<Long>> stepDurations = new ConcurrentHashMap<>();
+    private final List<Long> chainDurations = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+    private final List<ChainResult> failedSamples = Collections.synchronizedList(new ArrayList<>());
+    private final int maxFailedSamples;
+    private final AtomicLong wallTimeMs = new AtomicLong();
+    
+    public ChainBatchResult(int maxFailedSamples) {
+        this.maxFailedSamples = maxFailedSamples;
+    }
+    
+    void record(ChainResult result) {
+        executions.incrementAndGet();
+        chainDurations.add(result.getWallTimeMs());
+        result.getStepDurations().forEach((step, duration) ->
+                stepDurations.computeIfAbsent(step, key -> Collections.synchronizedList(new ArrayList<>())).add(duration));
+        
+        if (result.isSuccess()) {
+            succeeded.incrementAndGet();
+            return;
+        }
+        
+        String error = result.getError() != null ? result.getError() : "unknown";
+        errors.computeIfAbsent(error, key -> new AtomicInteger()).incrementAndGet();
+        synchronized (failedSamples) {
+            if (failedSamples.size() < maxFailedSamples) {
+                failedSamples.add(result);
+            }
+        }
+    }
+    
+    void setWallTimeMs(long wallTimeMs) {
+        this.wallTimeMs.set(wallTimeMs);
+    }
+    
+    public int getExecutions() {
+        return executions.get();
+    }
+    
+    public int getSucceeded() {
+        return succeeded.get();
+    }
+    
+    public int getFailed() {
+        return executions.get() - succeeded.get();
+    }
+    
+    public double getSuccessRate() {
+        int total = executions.get();
+        return total > 0 ? (double) succeeded.get() / total : 0.0;
+    }
+    
+    public long getWallTimeMs() {
+        return wallTimeMs.get();
+    }
+    
+    public double getThroughputPerSecond() {
+        long wall = wallTimeMs.get();
+        return wall > 0 ? executions.get() * 1000.0 / wall : 0.0;
+    }
+    
+    /**
+     * p50/p90/p95/p99/max of whole-chain wall time in milliseconds
+     */
+    public Map<String, Long> getChainPercentiles() {
+        return percentiles(chainDurations);
+    }
+    
+    /**
+     * p50/p90/p95/p99/max per step name in milliseconds
+     */
+    public Map<String, Map<String, Long>> getStepPercentiles() {
+        Map<String, Map<String, Long>> percentiles = new TreeMap<>();
+        stepDurations.forEach((step, durations) -> percentiles.put(step, percentiles(durations)));
+        return percentiles;
+    }
+    
+    public Map<String, Integer> getErrorCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        errors.forEach((error, count) -> counts.put(error, count.get()));
+        return counts;
+    }
+    
+    public List<ChainResult> getFailedSamples() {
+        synchronized (failedSamples) {
+            return new ArrayList<>(failedSamples);
+        }
+    }
+    
+    private static Map<String, Long> percentiles(List<Long> durations) {
+        List<Long> sorted;
+        synchronized (durations) {
+            sorted = new ArrayList<>(durations);
+        }
+        Collections.sort(sorted);
+        
+        Map<String, Long> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", percentile(sorted, 50));
+        percentiles.put("p90", percentile(sorted, 90));
+        percentiles.put("p95", percentile(sorted, 95));
+        percentiles.put("p99", percentile(sorted, 99));
+        percentiles.put("max", sorted.isEmpty() ? 0L : sorted.get(sorted.size() - 1));
+        return percentiles;
+    }
+    
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Executions: %d, Succeeded: %d, Success Rate: %.2f%%, Wall: %dms, Throughput: %.1f/s, Chain: %s",
+                getExecutions(), getSucceeded(), getSuccessRate() * 100, getWallTimeMs(),
+                getThroughputPerSecond(), getChainPercentiles());
+    }
+}
\ No newline at end of file
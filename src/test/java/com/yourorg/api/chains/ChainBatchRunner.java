@@ -0,0 +1,107 @@
+package com.yourorg.api.chains;
+
+import com.yourorg.utils.ConfigLoader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Runs many chain executions concurrently, each with its own isolated chain context
+ * Used for regression sweeps over CRUD and order chains
+ */
+public class ChainBatchRunner {
+    private static final Logger logger = LogManager.getLogger(ChainBatchRunner.class);
+    private final int parallelism;
+    private final int maxFailedSamples;
+    private Map<String, Object> seedContext = Map.of();
+    
+    public ChainBatchRunner() {
+        this(ConfigLoader.getInt("api.chain.batch.parallelism", 16));
+    }
+    
+    public ChainBatchRunner(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.maxFailedSamples = ConfigLoader.getInt("api.chain.batch.failed.samples", 20);
+    }
+    
+    /**
+     * Values copied into every execution's context before it starts
+     */
+    public ChainBatchRunner seedContext(Map<String, Object> seedContext) {
+        this.seedContext = Map.copyOf(seedContext);
+        return this;
+    }
+    
+    public ChainBatchResult run(List<ChainDefinition> chains) throws InterruptedException {
+        return run(chains.size(), chains::get);
+    }
+    
+    /**
+     * Run {@code executions} chains; the factory receives the execution index so each run can use distinct data
+     */
+    public ChainBatchResult run(int executions, IntFunction<ChainDefinition> chainFactory) throws InterruptedException {
+        ChainBatchResult batchResult = new ChainBatchResult(maxFailedSamples);
+        AtomicInteger workerCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "chain-batch-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        // One executor per worker, reset before every execution; steps run inline on the worker
+        // so the batch parallelism is the only concurrency bound
+        ThreadLocal<APIChainExecutor> executors = ThreadLocal.withInitial(() -> new APIChainExecutor(Runnable::run));
+        
+        logger.info("Starting chain batch - Executions: {}, Parallelism: {}", executions, parallelism);
+        long start = System.nanoTime();
+        
+        List<Future<?>> futures = new ArrayList<>(executions);
+        for (int i = 0; i < executions; i++) {
+            int index = i;
+            futures.add(workers.submit(() -> {
+                ChainDefinition chain = chainFactory.apply(index);
+                ChainResult result = new ChainResult(chain.getName());
+                APIChainExecutor executor = executors.get();
+                executor.clearContext();
+                executor.putContext(seedContext);
+                try {
+                    executor.executeChain(chain, result);
+                } catch (Exception e) {
+                    // Failure is already recorded on the result
+                    logger.debug("Chain execution {} failed: {}", index, e.getMessage());
+                }
+                batchResult.record(result);
+            }));
+        }
+        
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    logger.warn("Chain batch task failed: {}", e.getCause().getMessage());
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        
+        batchResult.setWallTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Chain batch completed - {}", batchResult);
+        batchResult.getStepPercentiles().forEach((step, percentiles) ->
+                logger.info("Chain batch step [{}] - {}", step, percentiles));
+        batchResult.getErrorCounts().forEach((error, count) ->
+                logger.warn("Chain batch error x{}: {}", count, error));
+        return batchResult;
+    }
+}
\ No newline at end of file
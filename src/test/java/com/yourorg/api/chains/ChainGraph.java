@@ -0,0 +1,229 @@
+package com.yourorg.api.chains;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Dependency graph over the steps of a chain
+ * Edges come from explicit dependsOn, context keys (consumer after latest producer) and
+ * resource conflicts (a mutating step stays ordered against any step touching an overlapping path)
+ */
+public class ChainGraph {
+    private final List<ChainStep> steps;
+    private final List<Set<Integer>> dependencies;
+    private final List<Integer> topologicalOrder;
+    
+    private ChainGraph(List<ChainStep> steps, List<Set<Integer>> dependencies) {
+        this.steps = steps;
+        this.dependencies = dependencies;
+        this.topologicalOrder = sort();
+    }
+    
+    /**
+     * @param availableKeys    keys already in the context before the chain starts
+     * @param observedProduces keys each step's extractor produced on earlier runs, by step name
+     */
+    public static ChainGraph build(List<ChainStep> steps, Set<String> availableKeys,
+                                   Map<String, Set<String>> observedProduces) {
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (int i = 0; i < steps.size(); i++) {
+            if (indexByName.putIfAbsent(steps.get(i).getName(), i) != null) {
+                throw new IllegalArgumentException("Duplicate step name in chain: " + steps.get(i).getName());
+            }
+        }
+        
+        List<Set<String>> produces = new ArrayList<>();
+        for (ChainStep step : steps) {
+            Set<String> keys = step.getProducedKeys();
+            keys.addAll(observedProduces.getOrDefault(step.getName(), Set.of()));
+            produces.add(keys);
+        }
+        
+        List<Set<Integer>> dependencies = new ArrayList<>();
+        for (int i = 0; i < steps.size(); i++) {
+            ChainStep step = steps.get(i);
+            Set<Integer> deps = new LinkedHashSet<>();
+            
+            for (String name : step.getDependsOn()) {
+                Integer index = indexByName.get(name);
+                if (index == null || index == i) {
+                    throw new IllegalArgumentException("Step " + step.getName() + " depends on unknown step: " + name);
+                }
+                deps.add(index);
+            }
+            
+            for (String key : step.getConsumedKeys()) {
+                int producer = latestProducer(produces, key, i);
+                if (producer >= 0) {
+                    deps.add(producer);
+                } else if (!availableKeys.contains(key)) {
+                    // Nobody declares the key: any earlier extractor whose output is still unknown might produce it
+                    for (int j = 0; j < i; j++) {
+                        if (steps.get(j).getDataExtractor() != null && produces.get(j).isEmpty()) {
+                            deps.add(j);
+                        }
+                    }
+                }
+            }
+            
+            for (int j = 0; j < i; j++) {
+                if (conflicts(steps.get(j), step)) {
+                    deps.add(j);
+                }
+            }
+            dependencies.add(deps);
+        }
+        
+        return new ChainGraph(steps, dependencies);
+    }
+    
+    private static int latestProducer(List<Set<String>> produces, String key, int before) {
+        for (int j = before - 1; j >= 0; j--) {
+            if (produces.get(j).contains(key)) {
+                return j;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Two steps conflict when at least one mutates and their paths overlap on the same base URL
+     */
+    static boolean conflicts(ChainStep earlier, ChainStep later) {
+        if (!earlier.isMutating() && !later.isMutating()) {
+            return false;
+        }
+        if (!Objects.equals(earlier.getBaseUrl(), later.getBaseUrl())) {
+            return false;
+        }
+        
+        List<String> first = segments(earlier.getEndpoint());
+        List<String> second = segments(later.getEndpoint());
+        for (int i = 0; i < Math.min(first.size(), second.size()); i++) {
+            String a = first.get(i);
+            String b = second.get(i);
+            // Placeholders could resolve to any value, so they match any segment
+            if (!a.equals(b) && !a.contains("${") && !b.contains("${")) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static List<String> segments(String endpoint) {
+        if (endpoint == null) {
+            return List.of();
+        }
+        int query = endpoint.indexOf('?');
+        String path = query >= 0 ? endpoint.substring(0, query) : endpoint;
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+    
+    private List<Integer> sort() {
+        int[] remaining = new int[steps.size()];
+        List<List<Integer>> dependents = new ArrayList<>();
+        for (int i = 0; i < steps.size(); i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            remaining[i] = dependencies.get(i).size();
+            for (int dep : dependencies.get(i)) {
+                dependents.get(dep).add(i);
+            }
+        }
+        
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < steps.size(); i++) {
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+        
+        List<Integer> order = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            int next = ready.poll();
+            order.add(next);
+            for (int dependent : dependents.get(next)) {
+                if (--remaining[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        
+        if (order.size() != steps.size()) {
+            throw new IllegalArgumentException("Chain has a dependency cycle through dependsOn declarations");
+        }
+        return order;
+    }
+    
+    /**
+     * Longest duration path through the graph, as step names from first to last
+     */
+    public List<String> criticalPath(Map<String, Long> durationsMs) {
+        long[] finish = new long[steps.size()];
+        int[] previous = new int[steps.size()];
+        int last = -1;
+        
+        for (int index : topologicalOrder) {
+            previous[index] = -1;
+            long start = 0;
+            for (int dep : dependencies.get(index)) {
+                if (finish[dep] > start) {
+                    start = finish[dep];
+                    previous[index] = dep;
+                }
+            }
+            finish[index] = start + durationsMs.getOrDefault(steps.get(index).getName(), 0L);
+            if (last < 0 || finish[index] > finish[last]) {
+                last = index;
+            }
+        }
+        
+        List<String> path = new ArrayList<>();
+        for (int index = last; index >= 0; index = previous[index]) {
+            path.add(steps.get(index).getName());
+        }
+        Collections.reverse(path);
+        return path;
+    }
+    
+    public List<ChainStep> getSteps() {
+        return steps;
+    }
+    
+    public Set<Integer> getDependencies(int index) {
+        return dependencies.get(index);
+    }
+    
+    public List<Integer> getTopologicalOrder() {
+        return topologicalOrder;
+    }
+    
+    /**
+     * Dependencies by step name, for logging and reports
+     */
+    public Map<String, List<String>> describe() {
+        Map<String, List<String>> description = new LinkedHashMap<>();
+        for (int i = 0; i < steps.size(); i++) {
+            List<String> names = new ArrayList<>();
+            dependencies.get(i).forEach(dep -> names.add(steps.get(dep).getName()));
+            description.put(steps.get(i).getName(), names);
+        }
+        return description;
+    }
+}
\ No newline at end of file
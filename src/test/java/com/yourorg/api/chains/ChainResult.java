@@ -2,8 +2,13 @@ package com.yourorg.api.chains;
 
 import io.restassured.response.Response;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Result of API chain execution
@@ -11,12 +16,18 @@ import java.util.Map;
 public class ChainResult {
     private final String chainName;
     private final Map<String, Response> stepResults;
+    private final Map<String, StepTiming> stepTimings;
     private boolean success;
     private String error;
+    private long wallTimeMs;
+    private List<String> criticalPath;
+    private long criticalPathMs;
     
     public ChainResult(String chainName) {
         this.chainName = chainName;
-        this.stepResults = new HashMap<>();
+        this.stepResults = new ConcurrentHashMap<>();
+        this.stepTimings = new ConcurrentHashMap<>();
+        this.criticalPath = new ArrayList<>();
         this.success = false;
     }
     
@@ -32,10 +43,72 @@ public class ChainResult {
         return new HashMap<>(stepResults);
     }
     
+    public void addStepTiming(String stepName, long startOffsetMs, long durationMs) {
+        stepTimings.put(stepName, new StepTiming(stepName, startOffsetMs, durationMs));
+    }
+    
+    /**
+     * Step timings ordered by start offset from the beginning of the chain
+     */
+    public List<StepTiming> getStepTimings() {
+        return stepTimings.values().stream()
+                .sorted(Comparator.comparingLong(StepTiming::getStartOffsetMs))
+                .collect(Collectors.toList());
+    }
+    
+    public Map<String, Long> getStepDurations() {
+        return stepTimings.values().stream()
+                .collect(Collectors.toMap(StepTiming::getStepName, StepTiming::getDurationMs));
+    }
+    
+    /**
+     * Sum of all step durations, i.e. the wall time a strictly sequential run would need
+     */
+    public long getTotalStepTimeMs() {
+        return stepTimings.values().stream().mapToLong(StepTiming::getDurationMs).sum();
+    }
+    
     // Getters and setters
     public String getChainName() { return chainName; }
     public boolean isSuccess() { return success; }
     public void setSuccess(boolean success) { this.success = success; }
     public String getError() { return error; }
     public void setError(String error) { this.error = error; }
+    public long getWallTimeMs() { return wallTimeMs; }
+    public void setWallTimeMs(long wallTimeMs) { this.wallTimeMs = wallTimeMs; }
+    public List<String> getCriticalPath() { return new ArrayList<>(criticalPath); }
+    public long getCriticalPathMs() { return criticalPathMs; }
+    
+    public void setCriticalPath(List<String> criticalPath) {
+        this.criticalPath = new ArrayList<>(criticalPath);
+        this.criticalPathMs = criticalPath.stream()
+                .map(stepTimings::get)
+                .filter(timing -> timing != null)
+                .mapToLong(StepTiming::getDurationMs)
+                .sum();
+    }
+    
+    /**
+     * Timing of a single step within the chain
+     */
+    public static class StepTiming {
+        private final String stepName;
+        private final long startOffsetMs;
+        private final long durationMs;
+        
+        StepTiming(String stepName, long startOffsetMs, long durationMs) {
+            this.stepName = stepName;
+            this.startOffsetMs = startOffsetMs;
+            this.durationMs = durationMs;
+        }
+        
+        public String getStepName() { return stepName; }
+        public long getStartOffsetMs() { return startOffsetMs; }
+        public long getDurationMs() { return durationMs; }
+        
+        @Override
+        public String toString() {
+            return String.format("%s (+%dms, %dms)", stepName, startOffsetMs, durationMs);
+        }
+    }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.yourorg.api.chains;
 
+import com.yourorg.api.json.ExtractionPlan;
 import io.restassured.response.Response;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -20,7 +25,13 @@ public class ChainStep {
     private boolean requiresAuth = false;
     private String tokenType = "user";
     private Function<Response, Map<String, Object>> dataExtractor;
+    private final Map<String, String> extractions = new LinkedHashMap<>();
+    private volatile ExtractionPlan extractionPlan;
     private Function<Response, Boolean> validator;
+    private final Set<String> consumes = new LinkedHashSet<>();
+    private final Set<String> produces = new LinkedHashSet<>();
+    private final Set<String> dependsOn = new LinkedHashSet<>();
+    private volatile CompiledStep compiled;
     
     public ChainStep(String name, String method, String endpoint) {
         this.name = name;
@@ -37,21 +48,25 @@ public class ChainStep {
     
     public ChainStep body(Object body) {
         this.body = body;
+        this.compiled = null;
         return this;
     }
     
     public ChainStep header(String key, String value) {
         this.headers.put(key, value);
+        this.compiled = null;
         return this;
     }
     
     public ChainStep headers(Map<String, String> headers) {
         this.headers.putAll(headers);
+        this.compiled = null;
         return this;
     }
     
     public ChainStep queryParam(String key, Object value) {
         this.queryParams.put(key, value);
+        this.compiled = null;
         return this;
     }
     
@@ -70,11 +85,86 @@ public class ChainStep {
         return this;
     }
     
+    /**
+     * Put the value at a JSON path of the response into the chain context under key, e.g. extract("orderId", "id")
+     * All extractions of a step are evaluated together in one pass over the body
+     */
+    public ChainStep extract(String key, String path) {
+        this.extractions.put(key, path);
+        this.produces.add(key);
+        this.extractionPlan = null;
+        return this;
+    }
+    
     public ChainStep validator(Function<Response, Boolean> validator) {
         this.validator = validator;
         return this;
     }
     
+    /**
+     * Context keys this step reads; ${...} placeholders in endpoint, headers, params and body are added automatically
+     */
+    public ChainStep consumes(String... keys) {
+        this.consumes.addAll(Arrays.asList(keys));
+        return this;
+    }
+    
+    /**
+     * Context keys the data extractor puts in the chain context
+     */
+    public ChainStep produces(String... keys) {
+        this.produces.addAll(Arrays.asList(keys));
+        return this;
+    }
+    
+    /**
+     * Explicit ordering on other steps, by step name, for dependencies that are not visible through the context
+     */
+    public ChainStep dependsOn(String... stepNames) {
+        this.dependsOn.addAll(Arrays.asList(stepNames));
+        return this;
+    }
+    
+    /**
+     * Declared plus inferred context keys
+     */
+    public Set<String> getConsumedKeys() {
+        Set<String> keys = new LinkedHashSet<>(consumes);
+        keys.addAll(compiled().getKeys());
+        return keys;
+    }
+    
+    /**
+     * Placeholder plan for endpoint, headers, params and body; compiled on first use and after any change to them
+     */
+    public CompiledStep compiled() {
+        CompiledStep plan = compiled;
+        if (plan == null) {
+            plan = new CompiledStep(this);
+            compiled = plan;
+        }
+        return plan;
+    }
+    
+    /**
+     * Compiled plan for the declared extractions, or null when there are none
+     */
+    public ExtractionPlan extractionPlan() {
+        if (extractions.isEmpty()) {
+            return null;
+        }
+        ExtractionPlan plan = extractionPlan;
+        if (plan == null) {
+            plan = ExtractionPlan.compile(extractions);
+            extractionPlan = plan;
+        }
+        return plan;
+    }
+    
+    public boolean isMutating() {
+        return !"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method) && !"OPTIONS".equalsIgnoreCase(method);
+    }
+    
     // Getters
     public String getName() { return name; }
     public String getMethod() { return method; }
@@ -87,4 +177,6 @@ public class ChainStep {
     public String getTokenType() { return tokenType; }
     public Function<Response, Map<String, Object>> getDataExtractor() { return dataExtractor; }
     public Function<Response, Boolean> getValidator() { return validator; }
+    public Set<String> getProducedKeys() { return new LinkedHashSet<>(produces); }
+    public Set<String> getDependsOn() { return new LinkedHashSet<>(dependsOn); }
 }
\ No newline at end of file
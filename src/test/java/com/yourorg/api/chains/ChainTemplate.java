@@ -0,0 +1,236 @@
+package com.yourorg.api.chains;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Value with ${key} placeholders compiled once into a segment plan
+ * Strings, maps and lists are handled at any depth; rendering never re-scans the original value
+ */
+public abstract class ChainTemplate {
+    private static final String OPEN = "${";
+    private static final char CLOSE = '}';
+    
+    /**
+     * Compile a string, map, list or other value; values without placeholders compile to a constant
+     */
+    public static ChainTemplate compile(Object value) {
+        if (value instanceof String) {
+            return compileString((String) value);
+        }
+        if (value instanceof Map) {
+            return compileMap((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            return compileList((Collection<?>) value);
+        }
+        return new Constant(value);
+    }
+    
+    /**
+     * Render against a context; missing keys keep their ${key} text
+     */
+    public abstract Object render(Map<String, Object> context);
+    
+    /**
+     * Render and convert to text, for endpoints, headers and query params
+     */
+    public String renderString(Map<String, Object> context) {
+        Object rendered = render(context);
+        return rendered != null ? String.valueOf(rendered) : null;
+    }
+    
+    /**
+     * Context keys referenced anywhere in the value
+     */
+    public abstract Set<String> getKeys();
+    
+    public boolean isConstant() {
+        return false;
+    }
+    
+    private static ChainTemplate compileString(String text) {
+        int start = text.indexOf(OPEN);
+        if (start < 0) {
+            return new Constant(text);
+        }
+        
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int position = 0;
+        while (start >= 0) {
+            int end = text.indexOf(CLOSE, start + OPEN.length());
+            if (end < 0) {
+                break;
+            }
+            literals.add(text.substring(position, start));
+            keys.add(text.substring(start + OPEN.length(), end));
+            position = end + 1;
+            start = text.indexOf(OPEN, position);
+        }
+        if (keys.isEmpty()) {
+            return new Constant(text);
+        }
+        literals.add(text.substring(position));
+        
+        // A value that is exactly one placeholder keeps the context value's type (numbers stay numbers in JSON)
+        if (keys.size() == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            return new Placeholder(keys.get(0));
+        }
+        return new Interpolated(literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+    
+    private static ChainTemplate compileMap(Map<?, ?> map) {
+        Map<Object, ChainTemplate> entries = new LinkedHashMap<>();
+        boolean constant = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            ChainTemplate template = compile(entry.getValue());
+            constant &= template.isConstant();
+            entries.put(entry.getKey(), template);
+        }
+        return constant ? new Constant(map) : new MapTemplate(entries);
+    }
+    
+    private static ChainTemplate compileList(Collection<?> values) {
+        List<ChainTemplate> elements = new ArrayList<>(values.size());
+        boolean constant = true;
+        for (Object value : values) {
+            ChainTemplate template = compile(value);
+            constant &= template.isConstant();
+            elements.add(template);
+        }
+        return constant ? new Constant(values) : new ListTemplate(elements);
+    }
+    
+    private static final class Constant extends ChainTemplate {
+        private final Object value;
+        
+        Constant(Object value) {
+            this.value = value;
+        }
+        
+        @Override
+        public Object render(Map<String, Object> context) {
+            return value;
+        }
+        
+        @Override
+        public Set<String> getKeys() {
+            return Collections.emptySet();
+        }
+        
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+    }
+    
+    private static final class Placeholder extends ChainTemplate {
+        private final String key;
+        
+        Placeholder(String key) {
+            this.key = key;
+        }
+        
+        @Override
+        public Object render(Map<String, Object> context) {
+            Object value = context.get(key);
+            return value != null ? value : OPEN + key + CLOSE;
+        }
+        
+        @Override
+        public Set<String> getKeys() {
+            return Collections.singleton(key);
+        }
+    }
+    
+    private static final class Interpolated extends ChainTemplate {
+        private final String[] literals;
+        private final String[] keys;
+        private final int literalLength;
+        
+        Interpolated(String[] literals, String[] keys) {
+            this.literals = literals;
+            this.keys = keys;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+        
+        @Override
+        public Object render(Map<String, Object> context) {
+            StringBuilder rendered = new StringBuilder(literalLength + keys.length * 16);
+            for (int i = 0; i < keys.length; i++) {
+                rendered.append(literals[i]);
+                Object value = context.get(keys[i]);
+                if (value != null) {
+                    rendered.append(value);
+                } else {
+                    rendered.append(OPEN).append(keys[i]).append(CLOSE);
+                }
+            }
+            return rendered.append(literals[keys.length]).toString();
+        }
+        
+        @Override
+        public Set<String> getKeys() {
+            Set<String> result = new LinkedHashSet<>();
+            Collections.addAll(result, keys);
+            return result;
+        }
+    }
+    
+    private static final class MapTemplate extends ChainTemplate {
+        private final Map<Object, ChainTemplate> entries;
+        
+        MapTemplate(Map<Object, ChainTemplate> entries) {
+            this.entries = entries;
+        }
+        
+        @Override
+        public Object render(Map<String, Object> context) {
+            Map<Object, Object> rendered = new LinkedHashMap<>(entries.size() * 2);
+            entries.forEach((key, template) -> rendered.put(key, template.render(context)));
+            return rendered;
+        }
+        
+        @Override
+        public Set<String> getKeys() {
+            Set<String> result = new LinkedHashSet<>();
+            entries.values().forEach(template -> result.addAll(template.getKeys()));
+            return result;
+        }
+    }
+    
+    private static final class ListTemplate extends ChainTemplate {
+        private final List<ChainTemplate> elements;
+        
+        ListTemplate(List<ChainTemplate> elements) {
+            this.elements = elements;
+        }
+        
+        @Override
+        public Object render(Map<String, Object> context) {
+            List<Object> rendered = new ArrayList<>(elements.size());
+            for (ChainTemplate template : elements) {
+                rendered.add(template.render(context));
+            }
+            return rendered;
+        }
+        
+        @Override
+        public Set<String> getKeys() {
+            Set<String> result = new LinkedHashSet<>();
+            elements.forEach(template -> result.addAll(template.getKeys()));
+            return result;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.yourorg.api.chains;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Placeholder plan for one ChainStep: endpoint, header values, query param values and body
+ * Built once per step and rendered against the chain context on every execution
+ */
+public class CompiledStep {
+    private final ChainTemplate endpoint;
+    private final Map<String, ChainTemplate> headers = new LinkedHashMap<>();
+    private final Map<String, ChainTemplate> queryParams = new LinkedHashMap<>();
+    private final ChainTemplate body;
+    private final Set<String> keys = new LinkedHashSet<>();
+    
+    CompiledStep(ChainStep step) {
+        this.endpoint = ChainTemplate.compile(step.getEndpoint());
+        step.getHeaders().forEach((name, value) -> headers.put(name, ChainTemplate.compile(value)));
+        step.getQueryParams().forEach((name, value) -> queryParams.put(name, ChainTemplate.compile(value)));
+        this.body = ChainTemplate.compile(step.getBody());
+        
+        keys.addAll(endpoint.getKeys());
+        headers.values().forEach(template -> keys.addAll(template.getKeys()));
+        queryParams.values().forEach(template -> keys.addAll(template.getKeys()));
+        keys.addAll(body.getKeys());
+    }
+    
+    public String renderEndpoint(Map<String, Object> context) {
+        return endpoint.renderString(context);
+    }
+    
+    public Map<String, String> renderHeaders(Map<String, Object> context) {
+        Map<String, String> rendered = new LinkedHashMap<>(headers.size() * 2);
+        headers.forEach((name, template) -> rendered.put(name, template.renderString(context)));
+        return rendered;
+    }
+    
+    public Map<String, Object> renderQueryParams(Map<String, Object> context) {
+        Map<String, Object> rendered = new LinkedHashMap<>(queryParams.size() * 2);
+        queryParams.forEach((name, template) -> rendered.put(name, template.render(context)));
+        return rendered;
+    }
+    
+    public Object renderBody(Map<String, Object> context) {
+        return body.render(context);
+    }
+    
+    /**
+     * Every context key referenced by a placeholder in the step
+     */
+    public Set<String> getKeys() {
+        return keys;
+    }
+}
\ No newline at end of file
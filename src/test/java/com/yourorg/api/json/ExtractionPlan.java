@@ -0,0 +1,232 @@
+package com.yourorg.api.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourorg.utils.JsonCodec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Several JSON paths compiled once into a trie and evaluated together in a single pass over the token stream
+ * Paths are dot-separated field names with optional [n] indexes, e.g. "id", "customer.address.city", "data[0].id";
+ * a leading "$." is accepted. Branches no path needs are skipped unparsed, and parsing stops once every path is found
+ */
+public class ExtractionPlan {
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
+    private static final JsonFactory jsonFactory = objectMapper.getFactory();
+    private static final Map<Map<String, String>, ExtractionPlan> cache = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> paths;
+    private final Node root = new Node();
+    private final int targets;
+    
+    private ExtractionPlan(Map<String, String> paths) {
+        this.paths = Collections.unmodifiableMap(new LinkedHashMap<>(paths));
+        int count = 0;
+        for (Map.Entry<String, String> entry : this.paths.entrySet()) {
+            Node node = root;
+            for (Object segment : parse(entry.getValue())) {
+                node = segment instanceof Integer ? node.index((Integer) segment) : node.field((String) segment);
+            }
+            if (node.outputs.isEmpty()) {
+                count++;
+            }
+            node.outputs.add(entry.getKey());
+        }
+        this.targets = count;
+    }
+    
+    /**
+     * Plan for result key to path, compiled once per distinct mapping and then reused
+     */
+    public static ExtractionPlan compile(Map<String, String> keyToPath) {
+        ExtractionPlan plan = cache.get(keyToPath);
+        if (plan == null) {
+            plan = cache.computeIfAbsent(new LinkedHashMap<>(keyToPath), ExtractionPlan::new);
+        }
+        return plan;
+    }
+    
+    /**
+     * Plan whose result keys are the paths themselves
+     */
+    public static ExtractionPlan compile(Collection<String> paths) {
+        Map<String, String> keyToPath = new LinkedHashMap<>();
+        paths.forEach(path -> keyToPath.put(path, path));
+        return compile(keyToPath);
+    }
+    
+    static List<Object> parse(String path) {
+        String expression = path.startsWith("$.") ? path.substring(2) : path.startsWith("$") ? path.substring(1) : path;
+        List<Object> segments = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (c == '.' || c == '[') {
+                if (field.length() > 0) {
+                    segments.add(field.toString());
+                    field.setLength(0);
+                }
+                if (c == '[') {
+                    int close = expression.indexOf(']', i);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unclosed index in path: " + path);
+                    }
+                    try {
+                        segments.add(Integer.parseInt(expression.substring(i + 1, close).trim()));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Only numeric indexes are supported in path: " + path);
+                    }
+                    i = close;
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        if (field.length() > 0) {
+            segments.add(field.toString());
+        }
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("Empty extraction path: " + path);
+        }
+        return segments;
+    }
+    
+    /**
+     * Every result key mapped to its value, or to null when the path is absent
+     * Scalars keep their JSON type; objects and arrays are returned as maps and lists
+     */
+    public Map<String, Object> evaluate(byte[] json) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        paths.keySet().forEach(key -> result.put(key, null));
+        if (json == null || json.length == 0) {
+            return result;
+        }
+        
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != null) {
+                visit(parser, root, result, new int[]{targets});
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to extract " + paths.values() + ": " + e.getMessage(), e);
+        }
+        return result;
+    }
+    
+    public Map<String, String> getPaths() {
+        return paths;
+    }
+    
+    /**
+     * Walk the value under the parser's current token; returns false once every target has been found
+     */
+    private boolean visit(JsonParser parser, Node node, Map<String, Object> result, int[] remaining) throws IOException {
+        if (!node.outputs.isEmpty()) {
+            // Materialize only values a path points at; deeper paths under it are resolved from the value
+            Object value = readValue(parser);
+            node.emit(value, result);
+            remaining[0] -= node.countTargets();
+            return remaining[0] > 0;
+        }
+        
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && !node.fields.isEmpty()) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node child = node.fields.get(parser.getCurrentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                } else if (!visit(parser, child, result, remaining)) {
+                    return false;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && !node.indices.isEmpty()) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Node child = node.indices.get(index++);
+                if (child == null) {
+                    parser.skipChildren();
+                } else if (!visit(parser, child, result, remaining)) {
+                    return false;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        return true;
+    }
+    
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                return objectMapper.readValue(parser, Object.class);
+        }
+    }
+    
+    /**
+     * Trie node: children by field name and by array index, and the result keys that end here
+     */
+    private static class Node {
+        private final Map<String, Node> fields = new HashMap<>();
+        private final Map<Integer, Node> indices = new HashMap<>();
+        private final List<String> outputs = new ArrayList<>();
+        
+        Node field(String name) {
+            return fields.computeIfAbsent(name, key -> new Node());
+        }
+        
+        Node index(int position) {
+            return indices.computeIfAbsent(position, key -> new Node());
+        }
+        
+        /**
+         * This node plus every target node below it
+         */
+        int countTargets() {
+            int count = outputs.isEmpty() ? 0 : 1;
+            for (Node child : fields.values()) {
+                count += child.countTargets();
+            }
+            for (Node child : indices.values()) {
+                count += child.countTargets();
+            }
+            return count;
+        }
+        
+        @SuppressWarnings("unchecked")
+        void emit(Object value, Map<String, Object> result) {
+            outputs.forEach(key -> result.put(key, value));
+            fields.forEach((name, child) -> {
+                if (value instanceof Map) {
+                    child.emit(((Map<String, Object>) value).get(name), result);
+                }
+            });
+            indices.forEach((position, child) -> {
+                if (value instanceof List && position < ((List<Object>) value).size()) {
+                    child.emit(((List<Object>) value).get(position), result);
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package com.yourorg.api.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming filter over a JSON record array with the predicates pushed down into tokenizing
+ * Only fields named by a predicate are read; a record is abandoned at its first failing field,
+ * and matches are emitted as {@link LazyRecordMap}s, so memory grows with matches rather than dataset size
+ */
+public class JsonRecordFilter {
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final String[] fields;
+    private final Predicate<Object>[] tests;
+    private final Map<String, Integer> fieldIndex = new HashMap<>();
+    
+    /**
+     * @param predicates field name to predicate; a record matches when every predicate accepts its field value,
+     *                   with absent fields tested as null
+     */
+    @SuppressWarnings("unchecked")
+    public JsonRecordFilter(ObjectMapper objectMapper, Map<String, Predicate<Object>> predicates) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fields = predicates.keySet().toArray(new String[0]);
+        this.tests = new Predicate[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            tests[i] = predicates.get(fields[i]);
+            fieldIndex.put(fields[i], i);
+        }
+    }
+    
+    /**
+     * Matches in array order, tokenized lazily as the stream is consumed
+     */
+    public Stream<Map<String, Object>> stream(byte[] json) {
+        return StreamSupport.stream(new StreamingSpliterator(json), false);
+    }
+    
+    /**
+     * Matches in array order, evaluated across cores
+     * A structural pass first locates record boundaries, then ranges of records are filtered in parallel
+     */
+    public Stream<Map<String, Object>> parallelStream(byte[] json) {
+        int[] bounds;
+        try {
+            bounds = recordBounds(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index record array", e);
+        }
+        return StreamSupport.stream(new IndexedSpliterator(json, bounds, 0, bounds.length / 2), true);
+    }
+    
+    /**
+     * Consume one record with the parser on its START_OBJECT; returns the record when it matches, else null
+     * The parser is left on the record's END_OBJECT either way
+     * @param base offset of the parser's input within source, for parsers created over a slice
+     */
+    private LazyRecordMap match(JsonParser parser, byte[] source, int base) throws IOException {
+        int start = base + (int) parser.getTokenLocation().getByteOffset();
+        boolean[] seen = new boolean[fields.length];
+        boolean rejected = false;
+        
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer field = rejected ? null : fieldIndex.get(parser.getCurrentName());
+            parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+            seen[field] = true;
+            if (!tests[field].test(readValue(parser))) {
+                rejected = true;
+            }
+        }
+        
+        // Predicates whose field did not appear see null, matching Map.get on a materialized record
+        for (int i = 0; i < fields.length && !rejected; i++) {
+            if (!seen[i] && !tests[i].test(null)) {
+                rejected = true;
+            }
+        }
+        if (rejected) {
+            return null;
+        }
+        int end = base + (int) parser.getTokenLocation().getByteOffset() + 1;
+        return new LazyRecordMap(source, start, end - start, objectMapper);
+    }
+    
+    private Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                // Nested object or array named by a predicate: only these are materialized
+                return objectMapper.readValue(parser, Object.class);
+        }
+    }
+    
+    /**
+     * Start and end byte offsets of every record, interleaved, found without building any values
+     */
+    private int[] recordBounds(byte[] json) throws IOException {
+        int[] bounds = new int[64];
+        int count = 0;
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (!JsonRecordScanner.moveToRecordArray(parser)) {
+                return new int[0];
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (count + 2 > bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                bounds[count++] = (int) parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                bounds[count++] = (int) parser.getTokenLocation().getByteOffset() + 1;
+            }
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+    
+    /**
+     * Single pass over the array; not splittable
+     */
+    private class StreamingSpliterator extends Spliterators.AbstractSpliterator<Map<String, Object>> {
+        private final byte[] source;
+        private JsonParser parser;
+        private boolean finished;
+        
+        StreamingSpliterator(byte[] source) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.source = source;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+            try {
+                if (finished) {
+                    return false;
+                }
+                if (parser == null) {
+                    parser = jsonFactory.createParser(source);
+                    if (!JsonRecordScanner.moveToRecordArray(parser)) {
+                        return finish();
+                    }
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    LazyRecordMap record = match(parser, source, 0);
+                    if (record != null) {
+                        action.accept(record);
+                        return true;
+                    }
+                }
+                return finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to filter record array", e);
+            }
+        }
+        
+        private boolean finish() throws IOException {
+            finished = true;
+            if (parser != null) {
+                parser.close();
+            }
+            return false;
+        }
+    }
+    
+    /**
+     * Range of pre-located records; splits in half so the common pool can spread ranges across cores
+     */
+    private class IndexedSpliterator implements Spliterator<Map<String, Object>> {
+        private static final int MIN_SPLIT_RECORDS = 256;
+        
+        private final byte[] source;
+        private final int[] bounds;
+        private int next;
+        private final int end;
+        
+        IndexedSpliterator(byte[] source, int[] bounds, int from, int to) {
+            this.source = source;
+            this.bounds = bounds;
+            this.next = from;
+            this.end = to;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+            while (next < end) {
+                int start = bounds[next * 2];
+                int length = bounds[next * 2 + 1] - start;
+                next++;
+                try (JsonParser parser = jsonFactory.createParser(source, start, length)) {
+                    parser.nextToken();
+                    LazyRecordMap record = match(parser, source, start);
+                    if (record != null) {
+                        action.accept(record);
+                        return true;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to filter record " + (next - 1), e);
+                }
+            }
+            return false;
+        }
+        
+        @Override
+        public Spliterator<Map<String, Object>> trySplit() {
+            int remaining = end - next;
+            if (remaining < MIN_SPLIT_RECORDS * 2) {
+                return null;
+            }
+            int middle = next + remaining / 2;
+            Spliterator<Map<String, Object>> prefix = new IndexedSpliterator(source, bounds, next, middle);
+            next = middle;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+        
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.yourorg.api.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Token-level lookups over JSON record arrays without building the records that are not wanted
+ * Accepts a top-level array or an envelope object whose "data" field holds the array
+ */
+public class JsonRecordScanner {
+    private static final String ENVELOPE_FIELD = "data";
+    
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    
+    public JsonRecordScanner(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+    
+    /**
+     * First record whose top-level {@code idField} equals {@code targetId}, or null
+     * Scanning stops at the match; non-matching records are skipped token by token and nested values are never parsed
+     */
+    public LazyRecordMap findFirst(byte[] json, String idField, String targetId) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (!moveToRecordArray(parser)) {
+                return null;
+            }
+            
+            // Records are objects; the scan ends at the end of the array or at the first non-object element
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int start = (int) parser.getTokenLocation().getByteOffset();
+                boolean matched = false;
+                
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    boolean isIdField = !matched && idField.equals(parser.getCurrentName());
+                    JsonToken value = parser.nextToken();
+                    if (isIdField && value.isScalarValue() && targetId.equals(parser.getText())) {
+                        matched = true;
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                
+                if (matched) {
+                    int end = (int) parser.getTokenLocation().getByteOffset() + 1;
+                    return new LazyRecordMap(json, start, end - start, objectMapper);
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Position the parser on the START_ARRAY of the record array
+     */
+    static boolean moveToRecordArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return true;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (ENVELOPE_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.yourorg.api.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map view of one JSON object inside a larger payload, parsed only when first read
+ * Holds the source buffer and the object's byte range, so a lookup that is never inspected costs no parsing
+ */
+public class LazyRecordMap extends AbstractMap<String, Object> {
+    private final byte[] source;
+    private final int offset;
+    private final int length;
+    private final ObjectMapper objectMapper;
+    private Map<String, Object> delegate;
+    
+    LazyRecordMap(byte[] source, int offset, int length, ObjectMapper objectMapper) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.objectMapper = objectMapper;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private synchronized Map<String, Object> delegate() {
+        if (delegate == null) {
+            try {
+                delegate = objectMapper.readValue(source, offset, length, LinkedHashMap.class);
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to parse record: " + e.getMessage(), e);
+            }
+        }
+        return delegate;
+    }
+    
+    /**
+     * The record's JSON exactly as it appeared in the payload
+     */
+    public String getRawJson() {
+        return new String(source, offset, length, StandardCharsets.UTF_8);
+    }
+    
+    public boolean isParsed() {
+        return delegate != null;
+    }
+    
+    @Override
+    public Object get(Object key) {
+        return delegate().get(key);
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate().containsKey(key);
+    }
+    
+    @Override
+    public Object put(String key, Object value) {
+        return delegate().put(key, value);
+    }
+    
+    @Override
+    public Object remove(Object key) {
+        return delegate().remove(key);
+    }
+    
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+    
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return delegate().entrySet();
+    }
+}
\ No newline at end of file
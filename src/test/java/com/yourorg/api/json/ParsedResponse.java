@@ -0,0 +1,160 @@
+package com.yourorg.api.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.DocumentContext;
+import com.yourorg.utils.JsonCodec;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parse-once view of a response body shared by every extractor and validator
+ * Keeps the raw bytes and builds the Jackson tree, the Jayway document and the RestAssured JsonPath
+ * at most once each, on first use
+ */
+public class ParsedResponse {
+    private static final Logger logger = LogManager.getLogger(ParsedResponse.class);
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
+    // Weak map keyed by the response's equals/hashCode; values never reference their Response, so entries go away
+    // with the response
+    private static final Map<Response, ParsedResponse> cache = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong wrapped = new AtomicLong();
+    private static final AtomicLong reused = new AtomicLong();
+    private static final AtomicLong treeParses = new AtomicLong();
+    private static final AtomicLong documentParses = new AtomicLong();
+    private static final AtomicLong jsonPathParses = new AtomicLong();
+    private static final AtomicLong bytesParsed = new AtomicLong();
+    
+    private final byte[] body;
+    private volatile JsonNode tree;
+    private volatile DocumentContext document;
+    private volatile JsonPath jsonPath;
+    
+    private ParsedResponse(byte[] body) {
+        this.body = body != null ? body : new byte[0];
+    }
+    
+    /**
+     * The shared view for this response, created on first request
+     */
+    public static ParsedResponse of(Response response) {
+        ParsedResponse existing = cache.get(response);
+        if (existing != null) {
+            reused.incrementAndGet();
+            return existing;
+        }
+        // The body is copied outside the map lock; if two threads race, the first view stored wins
+        ParsedResponse created = new ParsedResponse(response.getBody().asByteArray());
+        existing = cache.putIfAbsent(response, created);
+        if (existing != null) {
+            reused.incrementAndGet();
+            return existing;
+        }
+        wrapped.incrementAndGet();
+        return created;
+    }
+    
+    /**
+     * Standalone view over a body that did not come from a RestAssured response
+     */
+    public static ParsedResponse of(byte[] body) {
+        wrapped.incrementAndGet();
+        return new ParsedResponse(body);
+    }
+    
+    public byte[] bytes() {
+        return body;
+    }
+    
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Jackson tree, for structural validation
+     */
+    public JsonNode tree() {
+        JsonNode result = tree;
+        if (result == null) {
+            synchronized (this) {
+                if (tree == null) {
+                    try {
+                        tree = objectMapper.readTree(body);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Response body is not valid JSON: " + e.getMessage(), e);
+                    }
+                    countParse(treeParses);
+                }
+                result = tree;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Jayway document, for JsonPath queries such as $.data[*].id
+     */
+    public DocumentContext document() {
+        DocumentContext result = document;
+        if (result == null) {
+            synchronized (this) {
+                if (document == null) {
+                    document = com.jayway.jsonpath.JsonPath.parse(new ByteArrayInputStream(body));
+                    countParse(documentParses);
+                }
+                result = document;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * RestAssured JsonPath, for the GPath-style accessors used by tests and chain extractors
+     */
+    public JsonPath jsonPath() {
+        JsonPath result = jsonPath;
+        if (result == null) {
+            synchronized (this) {
+                if (jsonPath == null) {
+                    jsonPath = new JsonPath(asString());
+                    countParse(jsonPathParses);
+                }
+                result = jsonPath;
+            }
+        }
+        return result;
+    }
+    
+    private void countParse(AtomicLong counter) {
+        counter.incrementAndGet();
+        bytesParsed.addAndGet(body.length);
+    }
+    
+    /**
+     * Responses wrapped, wrapper reuses and parses per representation
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("responses", wrapped.get());
+        stats.put("reused", reused.get());
+        stats.put("treeParses", treeParses.get());
+        stats.put("documentParses", documentParses.get());
+        stats.put("jsonPathParses", jsonPathParses.get());
+        stats.put("bytesParsed", bytesParsed.get());
+        return stats;
+    }
+    
+    public static void logStats() {
+        logger.info("Response Parsing - {}", getStats());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.yourorg.api.load;
+
+import com.yourorg.api.chains.APIChainExecutor;
+import com.yourorg.api.chains.ChainDefinition;
+import com.yourorg.api.chains.ChainResult;
+import com.yourorg.utils.ConfigLoader;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: starts chains or single requests at the arrival rate of a {@link LoadProfile}
+ * Arrivals are never delayed by slow responses; latency is measured from each arrival's intended start
+ */
+public class LoadGenerator {
+    private static final Logger logger = LogManager.getLogger(LoadGenerator.class);
+    private final LoadProfile profile;
+    private final int maxConcurrency;
+    private final long histogramMaxMicros;
+    private final long drainSeconds;
+    private Map<String, Object> seedContext = Map.of();
+    
+    public LoadGenerator() {
+        this(LoadProfile.fromConfig());
+    }
+    
+    public LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+        this.maxConcurrency = Math.max(1, ConfigLoader.getInt("api.load.max.concurrency", 256));
+        this.histogramMaxMicros = TimeUnit.SECONDS.toMicros(ConfigLoader.getInt("api.load.histogram.max.seconds", 3600));
+        this.drainSeconds = ConfigLoader.getInt("api.load.drain.seconds", 60);
+    }
+    
+    /**
+     * Values copied into every chain execution's context before it starts
+     */
+    public LoadGenerator seedContext(Map<String, Object> seedContext) {
+        this.seedContext = Map.copyOf(seedContext);
+        return this;
+    }
+    
+    /**
+     * Drive a single request; responses with status 400 or above count as failures
+     */
+    public LoadReport run(String name, Supplier<Response> request) throws InterruptedException {
+        return run(name, request, response -> response.getStatusCode() < 400);
+    }
+    
+    /**
+     * Drive a single request; any status other than expectedStatus counts as a failure
+     */
+    public LoadReport run(String name, Supplier<Response> request, int expectedStatus) throws InterruptedException {
+        return run(name, request, response -> response.getStatusCode() == expectedStatus);
+    }
+    
+    /**
+     * Drive a single request; responses the check rejects count as failures, recorded by status
+     */
+    public LoadReport run(String name, Supplier<Response> request, Predicate<Response> check)
+            throws InterruptedException {
+        LoadReport report = new LoadReport(name, profile, histogramMaxMicros);
+        return drive(report, arrival -> {
+            Response response = request.get();
+            return check.test(response) ? null : "HTTP " + response.getStatusCode();
+        });
+    }
+    
+    public LoadReport run(ChainDefinition chain) throws InterruptedException {
+        return run(chain.getName(), arrival -> chain);
+    }
+    
+    /**
+     * Drive chains; the factory receives the arrival index so each execution can use distinct data
+     */
+    public LoadReport run(String name, IntFunction<ChainDefinition> chainFactory) throws InterruptedException {
+        LoadReport report = new LoadReport(name, profile, histogramMaxMicros);
+        
+        // Steps run inline on the worker so each arrival occupies exactly one worker
+        ThreadLocal<APIChainExecutor> executors = ThreadLocal.withInitial(() -> new APIChainExecutor(Runnable::run));
+        
+        return drive(report, arrival -> {
+            ChainDefinition chain = chainFactory.apply(arrival);
+            ChainResult result = new ChainResult(chain.getName());
+            APIChainExecutor executor = executors.get();
+            executor.clearContext();
+            executor.putContext(seedContext);
+            try {
+                executor.executeChain(chain, result);
+            } catch (Exception e) {
+                // Failure is already recorded on the result
+                logger.debug("Load arrival {} failed: {}", arrival, e.getMessage());
+            }
+            result.getStepDurations().forEach(report::recordStep);
+            return result.isSuccess() ? null : (result.getError() != null ? result.getError() : "unknown");
+        });
+    }
+    
+    private LoadReport drive(LoadReport report, Arrival task) throws InterruptedException {
+        AtomicInteger workerCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong started = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+        
+        logger.info("Starting load run [{}] - Profile: {}, Expected arrivals: {}, Max concurrency: {}",
+                report.getName(), profile, profile.expectedArrivals(), maxConcurrency);
+        long runStart = System.nanoTime();
+        
+        try {
+            for (int arrival = 0; ; arrival++) {
+                long offset = profile.arrivalNanos(arrival);
+                if (offset < 0) {
+                    break;
+                }
+                long intendedStart = runStart + offset;
+                waitUntil(intendedStart);
+                
+                int index = arrival;
+                int phase = profile.phaseAt(offset);
+                report.recordScheduled(arrival - started.get());
+                workers.execute(() -> {
+                    long actualStart = System.nanoTime();
+                    started.incrementAndGet();
+                    String error;
+                    try {
+                        error = task.execute(index);
+                    } catch (Exception e) {
+                        error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                    }
+                    long end = System.nanoTime();
+                    lastCompletion.accumulateAndGet(end - runStart, Math::max);
+                    report.recordCompletion(phase, end - intendedStart, end - actualStart, error);
+                });
+            }
+            
+            workers.shutdown();
+            if (!workers.awaitTermination(drainSeconds, TimeUnit.SECONDS)) {
+                logger.warn("Load run [{}] did not drain within {}s - {} arrivals still in flight",
+                        report.getName(), drainSeconds, report.getScheduled() - report.getCompleted());
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        
+        report.setDurationNanos(Math.max(lastCompletion.get(), profile.getDuration().toNanos()));
+        report.logSummary();
+        return report;
+    }
+    
+    private static void waitUntil(long nanoTime) throws InterruptedException {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Load run interrupted");
+            }
+        }
+    }
+    
+    /**
+     * One arrival's work; returns an error description, or null on success
+     */
+    @FunctionalInterface
+    private interface Arrival {
+        String execute(int index) throws Exception;
+    }
+}
\ No newline at end of file
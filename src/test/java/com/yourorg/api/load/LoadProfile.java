@@ -0,0 +1,188 @@
+package com.yourorg.api.load;
+
+import com.yourorg.utils.ConfigLoader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Open-model arrival schedule: a sequence of phases, each ramping linearly between two arrival rates
+ * Requests are started on this schedule regardless of how long earlier requests take
+ */
+public class LoadProfile {
+    private final List<Phase> phases;
+    private final long totalNanos;
+    
+    private LoadProfile(List<Phase> phases) {
+        this.phases = Collections.unmodifiableList(new ArrayList<>(phases));
+        this.totalNanos = phases.stream().mapToLong(Phase::getDurationNanos).sum();
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Ramp-up, steady and ramp-down from the api.load.* settings
+     */
+    public static LoadProfile fromConfig() {
+        return builder()
+                .rampUp(Duration.ofSeconds(ConfigLoader.getInt("api.load.ramp.up.seconds", 10)),
+                        ConfigLoader.getInt("api.load.target.rps", 10))
+                .steady(Duration.ofSeconds(ConfigLoader.getInt("api.load.steady.seconds", 30)))
+                .rampDown(Duration.ofSeconds(ConfigLoader.getInt("api.load.ramp.down.seconds", 5)))
+                .build();
+    }
+    
+    /**
+     * Intended start of arrival {@code index} (0-based) as an offset from the start of the run, or -1 past the end
+     * Arrival k is placed where the integrated arrival rate reaches k, so schedules never drift
+     */
+    long arrivalNanos(long index) {
+        double arrivals = 0;
+        long phaseStart = 0;
+        for (Phase phase : phases) {
+            double phaseArrivals = phase.arrivals();
+            if (index < arrivals + phaseArrivals) {
+                double offsetSeconds = phase.secondsToReach(index - arrivals);
+                return phaseStart + (long) (offsetSeconds * 1e9);
+            }
+            arrivals += phaseArrivals;
+            phaseStart += phase.getDurationNanos();
+        }
+        return -1;
+    }
+    
+    /**
+     * Index of the phase active at the given offset from the start of the run
+     */
+    int phaseAt(long nanos) {
+        long phaseStart = 0;
+        for (int i = 0; i < phases.size(); i++) {
+            phaseStart += phases.get(i).getDurationNanos();
+            if (nanos < phaseStart) {
+                return i;
+            }
+        }
+        return phases.size() - 1;
+    }
+    
+    /**
+     * Number of arrivals the profile will schedule
+     */
+    public long expectedArrivals() {
+        return (long) Math.ceil(phases.stream().mapToDouble(Phase::arrivals).sum());
+    }
+    
+    public List<Phase> getPhases() {
+        return phases;
+    }
+    
+    public Duration getDuration() {
+        return Duration.ofNanos(totalNanos);
+    }
+    
+    @Override
+    public String toString() {
+        return phases.toString();
+    }
+    
+    /**
+     * One stage of the profile; the arrival rate changes linearly from start to end rate
+     */
+    public static class Phase {
+        private final String name;
+        private final double startRate;
+        private final double endRate;
+        private final long durationNanos;
+        
+        Phase(String name, double startRate, double endRate, Duration duration) {
+            this.name = name;
+            this.startRate = Math.max(0, startRate);
+            this.endRate = Math.max(0, endRate);
+            this.durationNanos = duration.toNanos();
+        }
+        
+        /**
+         * Arrivals over the whole phase: the area under the rate line
+         */
+        double arrivals() {
+            return (startRate + endRate) / 2.0 * durationNanos / 1e9;
+        }
+        
+        /**
+         * Seconds into the phase at which {@code count} arrivals have been scheduled
+         * Solves startRate*s + slope*s^2/2 = count for s
+         */
+        double secondsToReach(double count) {
+            double seconds = durationNanos / 1e9;
+            double slope = (endRate - startRate) / seconds;
+            if (Math.abs(slope) < 1e-9) {
+                return startRate > 0 ? count / startRate : 0;
+            }
+            double discriminant = Math.max(0, startRate * startRate + 2 * slope * count);
+            return Math.min(seconds, (Math.sqrt(discriminant) - startRate) / slope);
+        }
+        
+        public String getName() { return name; }
+        public double getStartRate() { return startRate; }
+        public double getEndRate() { return endRate; }
+        public long getDurationNanos() { return durationNanos; }
+        
+        @Override
+        public String toString() {
+            return String.format("%s(%.1f->%.1f rps, %ds)", name, startRate, endRate, durationNanos / 1_000_000_000L);
+        }
+    }
+    
+    public static class Builder {
+        private final List<Phase> phases = new ArrayList<>();
+        private double currentRate = 0;
+        
+        /**
+         * Ramp linearly from the current rate to {@code targetRps}
+         */
+        public Builder rampUp(Duration duration, double targetRps) {
+            return phase("ramp-up", targetRps, duration);
+        }
+        
+        /**
+         * Hold the current rate
+         */
+        public Builder steady(Duration duration) {
+            return phase("steady", currentRate, duration);
+        }
+        
+        /**
+         * Hold a fixed rate
+         */
+        public Builder steady(Duration duration, double rps) {
+            currentRate = rps;
+            return phase("steady", rps, duration);
+        }
+        
+        /**
+         * Ramp linearly from the current rate to zero
+         */
+        public Builder rampDown(Duration duration) {
+            return phase("ramp-down", 0, duration);
+        }
+        
+        public Builder phase(String name, double endRate, Duration duration) {
+            if (!duration.isZero()) {
+                phases.add(new Phase(name, currentRate, endRate, duration));
+            }
+            currentRate = endRate;
+            return this;
+        }
+        
+        public LoadProfile build() {
+            if (phases.isEmpty()) {
+                throw new IllegalStateException("Load profile needs at least one phase");
+            }
+            return new LoadProfile(phases);
+        }
+    }
+}
\ No newline at end of file
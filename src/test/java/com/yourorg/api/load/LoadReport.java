@@ -0,0 +1,156 @@
+package com.yourorg.api.load;
+
+import com.yourorg.api.metrics.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Outcome of an open-model load run: throughput, errors and latency histograms per target and per chain step
+ * Response time is measured from the intended start (corrected for coordinated omission), service time from the actual start
+ */
+public class LoadReport {
+    private static final Logger logger = LogManager.getLogger(LoadReport.class);
+    
+    private final String name;
+    private final LoadProfile profile;
+    private final LatencyHistogram responseTime;
+    private final LatencyHistogram serviceTime;
+    private final Map<String, LatencyHistogram> stepTimes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+    private final AtomicLongArray phaseCompletions;
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong maxBacklog = new AtomicLong();
+    private final long histogramMaxMicros;
+    private volatile long durationNanos;
+    
+    LoadReport(String name, LoadProfile profile, long histogramMaxMicros) {
+        this.name = name;
+        this.profile = profile;
+        this.histogramMaxMicros = histogramMaxMicros;
+        this.responseTime = new LatencyHistogram(histogramMaxMicros);
+        this.serviceTime = new LatencyHistogram(histogramMaxMicros);
+        this.phaseCompletions = new AtomicLongArray(profile.getPhases().size());
+    }
+    
+    void recordScheduled(long backlog) {
+        scheduled.incrementAndGet();
+        maxBacklog.accumulateAndGet(backlog, Math::max);
+    }
+    
+    void recordCompletion(int phase, long responseNanos, long serviceNanos, String error) {
+        completed.incrementAndGet();
+        phaseCompletions.incrementAndGet(phase);
+        responseTime.recordNanos(responseNanos);
+        serviceTime.recordNanos(serviceNanos);
+        if (error != null) {
+            failed.incrementAndGet();
+            errors.computeIfAbsent(error, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+    
+    void recordStep(String step, long durationMs) {
+        stepTimes.computeIfAbsent(step, key -> new LatencyHistogram(histogramMaxMicros)).recordMicros(durationMs * 1000);
+    }
+    
+    void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public long getScheduled() {
+        return scheduled.get();
+    }
+    
+    public long getCompleted() {
+        return completed.get();
+    }
+    
+    public long getFailed() {
+        return failed.get();
+    }
+    
+    public double getErrorRate() {
+        long total = completed.get();
+        return total > 0 ? (double) failed.get() / total : 0.0;
+    }
+    
+    /**
+     * Largest number of arrivals that were due but waiting for a free worker
+     * A non-zero value means the generator, not the API, was limiting the offered load
+     */
+    public long getMaxBacklog() {
+        return maxBacklog.get();
+    }
+    
+    public long getDurationMs() {
+        return durationNanos / 1_000_000;
+    }
+    
+    public double getAchievedRps() {
+        return durationNanos > 0 ? completed.get() * 1e9 / durationNanos : 0.0;
+    }
+    
+    /**
+     * Latency from intended start to completion, including any time spent queued behind slow requests
+     */
+    public LatencyHistogram getResponseTime() {
+        return responseTime;
+    }
+    
+    /**
+     * Latency from actual start to completion, i.e. what a closed-loop client would report
+     */
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+    
+    public Map<String, LatencyHistogram> getStepTimes() {
+        return new TreeMap<>(stepTimes);
+    }
+    
+    public Map<String, Integer> getErrorCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        errors.forEach((error, count) -> counts.put(error, count.get()));
+        return counts;
+    }
+    
+    public Map<String, Long> getPhaseCompletions() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < phaseCompletions.length(); i++) {
+            counts.merge(profile.getPhases().get(i).getName(), phaseCompletions.get(i), Long::sum);
+        }
+        return counts;
+    }
+    
+    public void logSummary() {
+        logger.info("Load run [{}] - {}", name, this);
+        logger.info("Load run [{}] response time - {}", name, responseTime);
+        logger.info("Load run [{}] service time - {}", name, serviceTime);
+        stepTimes.forEach((step, histogram) -> logger.info("Load run [{}] step [{}] - {}", name, step, histogram));
+        errors.forEach((error, count) -> logger.warn("Load run [{}] error x{}: {}", name, count.get(), error));
+        if (maxBacklog.get() > 0) {
+            logger.warn("Load run [{}] backlog reached {} - raise api.load.max.concurrency if the API was not saturated",
+                    name, maxBacklog.get());
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Scheduled: %d, Completed: %d, Failed: %d, Error Rate: %.2f%%, Duration: %dms, Throughput: %.1f/s, Phases: %s",
+                getScheduled(), getCompleted(), getFailed(), getErrorRate() * 100, getDurationMs(),
+                getAchievedRps(), getPhaseCompletions());
+    }
+}
\ No newline at end of file
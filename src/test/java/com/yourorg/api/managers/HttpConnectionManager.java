@@ -0,0 +1,196 @@
+package com.yourorg.api.managers;
+
+import com.yourorg.api.cassette.CassetteManager;
+import com.yourorg.api.metrics.EndpointMetricsRegistry;
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared pooling HTTP connection manager for all RestAssured traffic
+ * Keeps TCP/TLS connections alive across requests and threads instead of one client per request
+ */
+public class HttpConnectionManager {
+    private static final Logger logger = LogManager.getLogger(HttpConnectionManager.class);
+    private static volatile HttpConnectionManager instance;
+    
+    private final SharedConnectionPool pool;
+    private final RestAssuredConfig config;
+    private final ScheduledExecutorService evictor;
+    private final long idleTimeoutMs;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong reusedConnections = new AtomicLong();
+    private final AtomicLong peakLeased = new AtomicLong();
+    
+    private HttpConnectionManager() {
+        int maxTotal = ConfigLoader.getInt("api.http.pool.max.total", 50);
+        int maxPerRoute = ConfigLoader.getInt("api.http.pool.max.per.route", 20);
+        int connectTimeoutMs = ConfigLoader.getInt("api.http.connect.timeout", 10000);
+        int socketTimeoutMs = ConfigLoader.getInt("api.timeout", 30000);
+        int evictIntervalSeconds = ConfigLoader.getInt("api.http.pool.evict.interval.seconds", 5);
+        idleTimeoutMs = ConfigLoader.getInt("api.http.pool.idle.timeout.seconds", 30) * 1000L;
+        
+        pool = new SharedConnectionPool();
+        pool.setMaxTotal(maxTotal);
+        pool.setDefaultMaxPerRoute(maxPerRoute);
+        
+        // RestAssured shuts the connection manager down after every request unless the client instance is reused;
+        // a fresh lightweight client per request over the shared pool avoids sharing mutable client params across threads
+        config = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(this::createHttpClient)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeoutMs)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, socketTimeoutMs))
+                // Request bodies and response.as(...) go through the shared codec instead of a mapper per call
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .jackson2ObjectMapperFactory((type, charset) -> JsonCodec.mapper()));
+        
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleAtFixedRate(this::evictStaleConnections,
+                evictIntervalSeconds, evictIntervalSeconds, TimeUnit.SECONDS);
+        
+        logger.info("HTTP connection pool created - Max Total: {}, Max Per Route: {}, Idle Timeout: {}ms",
+                maxTotal, maxPerRoute, idleTimeoutMs);
+    }
+    
+    public static HttpConnectionManager getInstance() {
+        if (instance == null) {
+            synchronized (HttpConnectionManager.class) {
+                if (instance == null) {
+                    instance = new HttpConnectionManager();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public static boolean isInitialized() {
+        return instance != null;
+    }
+    
+    public RestAssuredConfig getConfig() {
+        return config;
+    }
+    
+    /**
+     * RestAssured.given() bound to the shared pool, with the cassette filter when record/replay is on and
+     * the endpoint metrics filter inside it, so replayed responses are not counted as endpoint timings
+     */
+    public RequestSpecification given() {
+        RequestSpecification spec = RestAssured.given().config(config);
+        CassetteManager cassettes = CassetteManager.getInstance();
+        if (cassettes != null) {
+            spec = spec.filter(cassettes.getFilter());
+        }
+        EndpointMetricsRegistry metrics = EndpointMetricsRegistry.getInstance();
+        return metrics != null ? spec.filter(metrics.getFilter()) : spec;
+    }
+    
+    private DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(pool);
+        client.setKeepAliveStrategy(keepAliveStrategy());
+        
+        // The connection is bound to the context before request interceptors run
+        client.addRequestInterceptor((HttpRequestInterceptor) (request, context) -> {
+            requests.incrementAndGet();
+            Object connection = context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (connection instanceof HttpConnection
+                    && ((HttpConnection) connection).getMetrics().getRequestCount() > 0) {
+                reusedConnections.incrementAndGet();
+            }
+            peakLeased.accumulateAndGet(pool.getTotalStats().getLeased(), Math::max);
+        });
+        return client;
+    }
+    
+    /**
+     * Honour the server's Keep-Alive timeout, capped at the pool idle timeout
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        DefaultConnectionKeepAliveStrategy serverStrategy = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        return (response, context) -> {
+            long serverKeepAlive = serverStrategy.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, idleTimeoutMs) : idleTimeoutMs;
+        };
+    }
+    
+    private void evictStaleConnections() {
+        try {
+            pool.closeExpiredConnections();
+            pool.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.debug("Connection eviction failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Pool utilization and connection reuse counters
+     */
+    public Map<String, Object> getStats() {
+        PoolStats total = pool.getTotalStats();
+        long requestCount = requests.get();
+        long reused = reusedConnections.get();
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("leased", total.getLeased());
+        stats.put("available", total.getAvailable());
+        stats.put("pending", total.getPending());
+        stats.put("max", total.getMax());
+        stats.put("peakLeased", peakLeased.get());
+        stats.put("peakUtilization", total.getMax() > 0 ? (double) peakLeased.get() / total.getMax() : 0.0);
+        stats.put("requests", requestCount);
+        stats.put("reusedConnections", reused);
+        stats.put("newConnections", requestCount - reused);
+        stats.put("reuseRate", requestCount > 0 ? (double) reused / requestCount : 0.0);
+        return stats;
+    }
+    
+    public void logStats() {
+        logger.info("HTTP Connection Pool - {}", getStats());
+    }
+    
+    public void shutdown() {
+        evictor.shutdownNow();
+        pool.shutdownPool();
+        logger.info("HTTP connection pool shut down");
+    }
+    
+    /**
+     * Pool that ignores the per-request shutdown RestAssured issues; only shutdownPool() closes it
+     */
+    private static class SharedConnectionPool extends PoolingClientConnectionManager {
+        @Override
+        public void shutdown() {
+            // Intentionally a no-op: the pool outlives individual requests
+        }
+        
+        void shutdownPool() {
+            super.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -2,7 +2,13 @@ package com.yourorg.api.managers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.JsonPath;
+import com.yourorg.api.json.ExtractionPlan;
+import com.yourorg.api.json.JsonRecordFilter;
+import com.yourorg.api.json.JsonRecordScanner;
+import com.yourorg.api.json.ParsedResponse;
+import com.yourorg.api.pagination.ConcurrentPaginator;
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,6 +16,7 @@ import org.apache.logging.log4j.Logger;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Response manager for handling large JSON responses and data extraction
@@ -17,25 +24,29 @@ import java.util.stream.Collectors;
  */
 public class ResponseManager {
     private static final Logger logger = LogManager.getLogger(ResponseManager.class);
+    private static final ExtractionPlan CHAINED_DATA_PLAN = ExtractionPlan.compile(
+            List.of("id", "userId", "timestamp", "status", "metadata"));
     private final ObjectMapper objectMapper;
+    private final JsonRecordScanner recordScanner;
+    private final int parallelFilterMinBytes;
     
     public ResponseManager() {
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = JsonCodec.mapper();
+        this.recordScanner = new JsonRecordScanner(objectMapper);
+        this.parallelFilterMinBytes = ConfigLoader.getInt("api.json.parallel.min.bytes", 1048576);
     }
     
     /**
      * Extract specific JSON object from large response containing thousands of records
+     * Streams the body and stops at the first match; the returned map is parsed only when read
      */
     public Map<String, Object> findRecordById(Response response, String idField, String targetId) {
         try {
-            String jsonResponse = response.getBody().asString();
+            Map<String, Object> record = recordScanner.findFirst(ParsedResponse.of(response).bytes(), idField, targetId);
             
-            // Use JsonPath for efficient querying
-            List<Map<String, Object>> records = JsonPath.read(jsonResponse, "$[?(@." + idField + " == '" + targetId + "')]");
-            
-            if (!records.isEmpty()) {
+            if (record != null) {
                 logger.info("Found record with {}={}", idField, targetId);
-                return records.get(0);
+                return record;
             } else {
                 logger.warn("No record found with {}={}", idField, targetId);
                 return new HashMap<>();
@@ -48,33 +59,34 @@ public class ResponseManager {
     
     /**
      * Filter records based on multiple criteria using streams
+     * Predicates are applied while tokenizing, so only matching records are ever built
      */
     public List<Map<String, Object>> filterRecords(Response response, 
                                                    Map<String, Predicate<Object>> filters) {
-        try {
-            List<Map<String, Object>> allRecords = response.jsonPath().getList("$");
-            
-            return allRecords.stream()
-                    .filter(record -> filters.entrySet().stream()
-                            .allMatch(entry -> {
-                                Object value = record.get(entry.getKey());
-                                return entry.getValue().test(value);
-                            }))
-                    .collect(Collectors.toList());
-                    
+        try (Stream<Map<String, Object>> matches = streamRecords(response, filters)) {
+            return matches.collect(Collectors.toList());
         } catch (Exception e) {
             logger.error("Error filtering records: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
     
+    /**
+     * Matching records in array order as a lazy stream
+     * Bodies of at least api.json.parallel.min.bytes are split across cores
+     */
+    public Stream<Map<String, Object>> streamRecords(Response response, Map<String, Predicate<Object>> filters) {
+        byte[] body = ParsedResponse.of(response).bytes();
+        JsonRecordFilter recordFilter = new JsonRecordFilter(objectMapper, filters);
+        return body.length >= parallelFilterMinBytes ? recordFilter.parallelStream(body) : recordFilter.stream(body);
+    }
+    
     /**
      * Extract nested values from complex JSON structures
      */
     public List<Object> extractNestedValues(Response response, String jsonPath) {
         try {
-            String jsonResponse = response.getBody().asString();
-            return JsonPath.read(jsonResponse, jsonPath);
+            return ParsedResponse.of(response).document().read(jsonPath);
         } catch (Exception e) {
             logger.error("Error extracting nested values with path {}: {}", jsonPath, e.getMessage());
             return new ArrayList<>();
@@ -83,41 +95,25 @@ public class ResponseManager {
     
     /**
      * Paginate through large datasets and collect all records
+     * Pages after the first are prefetched concurrently within api.pagination.window
      */
     public List<Map<String, Object>> getAllRecordsPaginated(String baseEndpoint, 
                                                            String authToken,
                                                            int pageSize) throws Exception {
         List<Map<String, Object>> allRecords = new ArrayList<>();
-        int currentPage = 1;
-        boolean hasMoreData = true;
-        
-        while (hasMoreData) {
-            Response response = io.restassured.RestAssured.given()
-                    .header("Authorization", "Bearer " + authToken)
-                    .queryParam("page", currentPage)
-                    .queryParam("size", pageSize)
-                    .get(baseEndpoint);
-            
-            if (response.getStatusCode() == 200) {
-                List<Map<String, Object>> pageRecords = response.jsonPath().getList("data");
-                allRecords.addAll(pageRecords);
-                
-                // Check if there are more pages
-                Boolean hasNext = response.jsonPath().getBoolean("hasNext");
-                hasMoreData = hasNext != null && hasNext;
-                currentPage++;
-                
-                logger.info("Fetched page {} with {} records", currentPage - 1, pageRecords.size());
-            } else {
-                logger.error("Failed to fetch page {}: {}", currentPage, response.getStatusCode());
-                break;
-            }
-        }
+        new ConcurrentPaginator(baseEndpoint, authToken, pageSize).forEach(allRecords::add);
         
         logger.info("Total records collected: {}", allRecords.size());
         return allRecords;
     }
     
+    /**
+     * Records from every page in order, without holding the full set; close the stream to stop early
+     */
+    public Stream<Map<String, Object>> streamAllRecords(String baseEndpoint, String authToken, int pageSize) {
+        return new ConcurrentPaginator(baseEndpoint, authToken, pageSize).stream();
+    }
+    
     /**
      * Transform response data for subsequent API calls
      */
@@ -136,7 +132,7 @@ public class ResponseManager {
      */
     public boolean validateDynamicSchema(Response response, Map<String, Class<?>> expectedFields) {
         try {
-            JsonNode jsonNode = objectMapper.readTree(response.getBody().asString());
+            JsonNode jsonNode = ParsedResponse.of(response).tree();
             
             return expectedFields.entrySet().stream()
                     .allMatch(entry -> {
@@ -180,20 +176,22 @@ public class ResponseManager {
     /**
      * Extract data for chained API requests
      */
+    @SuppressWarnings("unchecked")
     public ChainedRequestData extractChainedData(Response response) {
         ChainedRequestData data = new ChainedRequestData();
         
         try {
-            // Extract common fields needed for subsequent requests
-            data.setId(response.jsonPath().getString("id"));
-            data.setUserId(response.jsonPath().getString("userId"));
-            data.setTimestamp(response.jsonPath().getString("timestamp"));
-            data.setStatus(response.jsonPath().getString("status"));
+            // Extract common fields needed for subsequent requests, all in one pass over the body
+            Map<String, Object> values = CHAINED_DATA_PLAN.evaluate(ParsedResponse.of(response).bytes());
+            data.setId(asString(values.get("id")));
+            data.setUserId(asString(values.get("userId")));
+            data.setTimestamp(asString(values.get("timestamp")));
+            data.setStatus(asString(values.get("status")));
             
             // Extract nested data
-            Map<String, Object> metadata = response.jsonPath().getMap("metadata");
-            if (metadata != null) {
-                data.setMetadata(metadata);
+            Object metadata = values.get("metadata");
+            if (metadata instanceof Map) {
+                data.setMetadata((Map<String, Object>) metadata);
             }
             
             logger.debug("Extracted chained request data: {}", data);
@@ -205,6 +203,10 @@ public class ResponseManager {
         }
     }
     
+    private static String asString(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+    
     public static class ChainedRequestData {
         private String id;
         private String userId;
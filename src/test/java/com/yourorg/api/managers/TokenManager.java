@@ -1,152 +1,375 @@
 package com.yourorg.api.managers;
 
+import com.yourorg.api.json.ParsedResponse;
 import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Thread-safe token manager with automatic refresh capability
- * Demonstrates singleton pattern with thread safety
+ * Thread-safe token manager with single-flight refresh per token type
+ * Concurrent callers share one in-flight login; tokens are renewed in the background before they expire,
+ * with expiry taken from the JWT exp claim, then the response's expiresIn, then api.token.ttl.seconds
  */
 public class TokenManager {
     private static final Logger logger = LogManager.getLogger(TokenManager.class);
     private static volatile TokenManager instance;
-    private static final ReentrantLock lock = new ReentrantLock();
     
     private final ConcurrentHashMap<String, TokenInfo> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<TokenInfo>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+    // Bumped on invalidation, so a login that was already in flight does not bring the token back
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    // After a failed refresh, stale tokens are served without starting another login until this time
+    private final ConcurrentHashMap<String, Long> retryAfter = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer;
+    private final long defaultTtlMs;
+    private final long refreshMarginMs;
+    private final boolean backgroundRefresh;
+    private final long retryDelayMs;
     
-    private TokenManager() {}
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong blockedCalls = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+    private final AtomicLong sharedRefreshes = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong backgroundRefreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final AtomicLong refreshNanos = new AtomicLong();
+    
+    private TokenManager() {
+        defaultTtlMs = ConfigLoader.getInt("api.token.ttl.seconds", 3600) * 1000L;
+        refreshMarginMs = ConfigLoader.getInt("api.token.refresh.margin.seconds", 300) * 1000L;
+        backgroundRefresh = ConfigLoader.getBoolean("api.token.background.refresh", true);
+        retryDelayMs = ConfigLoader.getInt("api.token.refresh.retry.seconds", 30) * 1000L;
+        // One shared pool sized for the three token types, so a slow admin login does not hold up user renewal
+        AtomicInteger threadCounter = new AtomicInteger();
+        renewer = Executors.newScheduledThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "token-renewer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
     
     public static TokenManager getInstance() {
         if (instance == null) {
-            lock.lock();
-            try {
+            synchronized (TokenManager.class) {
                 if (instance == null) {
                     instance = new TokenManager();
                 }
-            } finally {
-                lock.unlock();
             }
         }
         return instance;
     }
     
+    public static boolean isInitialized() {
+        return instance != null;
+    }
+    
+    /**
+     * Current token, blocking only when there is none or it has expired
+     * A token inside its renewal window is returned as is while a refresh runs in the background; after a failed
+     * refresh the next one waits api.token.refresh.retry.seconds
+     */
     public String getValidToken(String tokenType) throws Exception {
-        TokenInfo tokenInfo = tokens.get(tokenType);
+        String key = key(tokenType);
+        TokenInfo tokenInfo = tokens.get(key);
+        long now = System.currentTimeMillis();
         
-        if (tokenInfo == null || isTokenExpired(tokenInfo)) {
-            refreshToken(tokenType);
-            tokenInfo = tokens.get(tokenType);
+        if (tokenInfo != null && now < tokenInfo.renewAtMs) {
+            cacheHits.incrementAndGet();
+            return tokenInfo.token;
+        }
+        if (tokenInfo != null && now < tokenInfo.expiresAtMs) {
+            staleHits.incrementAndGet();
+            if (now >= retryAfter.getOrDefault(key, 0L)) {
+                refresh(key, false);
+            }
+            return tokenInfo.token;
         }
         
-        return tokenInfo != null ? tokenInfo.token : null;
+        long start = System.nanoTime();
+        blockedCalls.incrementAndGet();
+        try {
+            return await(refresh(key, true)).token;
+        } finally {
+            blockedNanos.addAndGet(System.nanoTime() - start);
+        }
     }
     
+    /**
+     * Log in again now and wait for the new token; joins a refresh of the same type that is already running
+     */
     public void refreshToken(String tokenType) throws Exception {
-        lock.lock();
+        await(refresh(key(tokenType), true));
+    }
+    
+    /**
+     * Start a login for the token type unless one is in flight, in which case the caller shares its result
+     * @param inline run the login on the calling thread instead of the renewer pool
+     */
+    private CompletableFuture<TokenInfo> refresh(String key, boolean inline) {
+        AtomicLong generation = generation(key);
+        long startGeneration = generation.get();
+        CompletableFuture<TokenInfo> flight = new CompletableFuture<>();
+        CompletableFuture<TokenInfo> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedRefreshes.incrementAndGet();
+            return existing;
+        }
+        
+        Runnable login = () -> {
+            logger.info("Refreshing token for type: {}", key);
+            long start = System.nanoTime();
+            try {
+                TokenInfo tokenInfo = authenticate(key);
+                synchronized (generation) {
+                    if (generation.get() == startGeneration) {
+                        tokens.put(key, tokenInfo);
+                        scheduleRenewal(key, tokenInfo);
+                    } else {
+                        logger.info("Token for type {} was invalidated during refresh, not caching it", key);
+                    }
+                }
+                refreshes.incrementAndGet();
+                retryAfter.remove(key);
+                inFlight.remove(key, flight);
+                flight.complete(tokenInfo);
+                logger.info("Token refreshed successfully for type: {} (expires in {}s)", key,
+                        (tokenInfo.expiresAtMs - System.currentTimeMillis()) / 1000);
+            } catch (Throwable e) {
+                refreshFailures.incrementAndGet();
+                retryAfter.put(key, System.currentTimeMillis() + retryDelayMs);
+                inFlight.remove(key, flight);
+                flight.completeExceptionally(e);
+                logger.error("Token refresh failed for type {}: {}", key, e.getMessage());
+            } finally {
+                refreshNanos.addAndGet(System.nanoTime() - start);
+            }
+        };
+        if (inline) {
+            login.run();
+        } else {
+            renewer.execute(login);
+        }
+        return flight;
+    }
+    
+    private void scheduleRenewal(String key, TokenInfo tokenInfo) {
+        long delayMs = tokenInfo.renewAtMs - System.currentTimeMillis();
+        // A token that is already due would otherwise be renewed in a tight loop
+        if (!backgroundRefresh || delayMs <= 0) {
+            return;
+        }
+        ScheduledFuture<?> renewal = renewer.schedule(() -> {
+            backgroundRefreshes.incrementAndGet();
+            refresh(key, true);
+        }, delayMs, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = renewals.put(key, renewal);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+    
+    private static TokenInfo await(CompletableFuture<TokenInfo> flight) throws Exception {
         try {
-            logger.info("Refreshing token for type: {}", tokenType);
-            
-            String newToken;
-            switch (tokenType.toLowerCase()) {
-                case "admin":
-                    newToken = authenticateAdmin();
-                    break;
-                case "user":
-                    newToken = authenticateUser();
-                    break;
-                case "api":
-                    newToken = authenticateApiKey();
-                    break;
-                default:
-                    throw new Exception("Unknown token type: " + tokenType);
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
             }
-            
-            TokenInfo tokenInfo = new TokenInfo(newToken, LocalDateTime.now().plusHours(1));
-            tokens.put(tokenType, tokenInfo);
-            
-            logger.info("Token refreshed successfully for type: {}", tokenType);
-        } finally {
-            lock.unlock();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
         }
     }
     
-    private boolean isTokenExpired(TokenInfo tokenInfo) {
-        return LocalDateTime.now().isAfter(tokenInfo.expiryTime.minus(5, ChronoUnit.MINUTES));
+    private TokenInfo authenticate(String key) throws Exception {
+        switch (key) {
+            case "admin":
+                return authenticateAdmin();
+            case "user":
+                return authenticateUser();
+            case "api":
+                return authenticateApiKey();
+            default:
+                throw new Exception("Unknown token type: " + key);
+        }
     }
     
-    private String authenticateAdmin() throws Exception {
+    private TokenInfo authenticateAdmin() throws Exception {
         // Implementation for admin authentication
         String username = ConfigLoader.get("admin.username", "admin");
         String password = ConfigLoader.get("admin.password", "admin123");
         
-        Response response = io.restassured.RestAssured.given()
+        Response response = HttpConnectionManager.getInstance().given()
                 .contentType("application/json")
-                .body(java.util.Map.of("username", username, "password", password))
+                .body(Map.of("username", username, "password", password))
                 .post("/auth/admin/login");
         
         if (response.getStatusCode() == 200) {
-            return response.jsonPath().getString("token");
+            return toTokenInfo(response);
         } else {
             throw new Exception("Admin authentication failed: " + response.getStatusCode());
         }
     }
     
-    private String authenticateUser() throws Exception {
+    private TokenInfo authenticateUser() throws Exception {
         // Implementation for user authentication
         String username = ConfigLoader.get("test.username", "testuser");
         String password = ConfigLoader.get("test.password", "testpass");
         
-        Response response = io.restassured.RestAssured.given()
+        Response response = HttpConnectionManager.getInstance().given()
                 .contentType("application/json")
-                .body(java.util.Map.of("username", username, "password", password))
+                .body(Map.of("username", username, "password", password))
                 .post("/auth/login");
         
         if (response.getStatusCode() == 200) {
-            return response.jsonPath().getString("token");
+            return toTokenInfo(response);
         } else {
             throw new Exception("User authentication failed: " + response.getStatusCode());
         }
     }
     
-    private String authenticateApiKey() throws Exception {
+    private TokenInfo authenticateApiKey() throws Exception {
         // Implementation for API key authentication
         String apiKey = ConfigLoader.get("api.key", "test-api-key");
         
-        Response response = io.restassured.RestAssured.given()
+        Response response = HttpConnectionManager.getInstance().given()
                 .header("X-API-Key", apiKey)
                 .post("/auth/validate");
         
         if (response.getStatusCode() == 200) {
-            return response.jsonPath().getString("token");
+            return toTokenInfo(response);
         } else {
             throw new Exception("API key authentication failed: " + response.getStatusCode());
         }
     }
     
+    private TokenInfo toTokenInfo(Response response) throws Exception {
+        JsonPath json = ParsedResponse.of(response).jsonPath();
+        String token = json.getString("token");
+        if (token == null) {
+            throw new Exception("Authentication response has no token");
+        }
+        
+        long now = System.currentTimeMillis();
+        long expiresAtMs = jwtExpiryMs(token);
+        if (expiresAtMs <= 0) {
+            Object expiresIn = json.get("expiresIn");
+            expiresAtMs = expiresIn instanceof Number
+                    ? now + ((Number) expiresIn).longValue() * 1000
+                    : now + defaultTtlMs;
+        }
+        // Short-lived tokens renew halfway through their lifetime rather than immediately
+        long margin = Math.min(refreshMarginMs, Math.max(0, expiresAtMs - now) / 2);
+        return new TokenInfo(token, expiresAtMs, expiresAtMs - margin);
+    }
+    
+    /**
+     * exp claim of a JWT in epoch milliseconds, or -1 when the token is not a JWT or has no exp
+     */
+    static long jwtExpiryMs(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return -1;
+        }
+        try {
+            Object exp = JsonCodec.readMap(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp instanceof Number ? ((Number) exp).longValue() * 1000 : -1;
+        } catch (IllegalArgumentException | IOException e) {
+            return -1;
+        }
+    }
+    
+    private AtomicLong generation(String key) {
+        return generations.computeIfAbsent(key, k -> new AtomicLong());
+    }
+    
+    private static String key(String tokenType) {
+        return tokenType.toLowerCase();
+    }
+    
+    /**
+     * Drop the token and its renewal; a login already in flight still answers its waiters but is not cached,
+     * and the next caller starts a new one
+     */
     public void invalidateToken(String tokenType) {
-        tokens.remove(tokenType);
+        invalidate(key(tokenType));
         logger.info("Token invalidated for type: {}", tokenType);
     }
     
     public void invalidateAllTokens() {
-        tokens.clear();
+        generations.keySet().forEach(this::invalidate);
         logger.info("All tokens invalidated");
     }
     
+    private void invalidate(String key) {
+        AtomicLong generation = generation(key);
+        synchronized (generation) {
+            generation.incrementAndGet();
+            inFlight.remove(key);
+            retryAfter.remove(key);
+            tokens.remove(key);
+            ScheduledFuture<?> renewal = renewals.remove(key);
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+        }
+    }
+    
+    /**
+     * Cache hits, callers blocked on a login and for how long, logins shared between callers, refresh counts
+     */
+    public Map<String, Object> getStats() {
+        long refreshCount = refreshes.get() + refreshFailures.get();
+        long blocked = blockedCalls.get();
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("staleHits", staleHits.get());
+        stats.put("blockedCalls", blocked);
+        stats.put("avgBlockedMs", blocked > 0 ? blockedNanos.get() / 1_000_000.0 / blocked : 0.0);
+        stats.put("sharedRefreshes", sharedRefreshes.get());
+        stats.put("refreshes", refreshes.get());
+        stats.put("backgroundRefreshes", backgroundRefreshes.get());
+        stats.put("refreshFailures", refreshFailures.get());
+        stats.put("avgRefreshMs", refreshCount > 0 ? refreshNanos.get() / 1_000_000.0 / refreshCount : 0.0);
+        return stats;
+    }
+    
+    public void logStats() {
+        logger.info("Token Manager - {}", getStats());
+    }
+    
     private static class TokenInfo {
         final String token;
-        final LocalDateTime expiryTime;
+        final long expiresAtMs;
+        final long renewAtMs;
         
-        TokenInfo(String token, LocalDateTime expiryTime) {
+        TokenInfo(String token, long expiresAtMs, long renewAtMs) {
             this.token = token;
-            this.expiryTime = expiryTime;
+            this.expiresAtMs = expiresAtMs;
+            this.renewAtMs = renewAtMs;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.yourorg.api.metrics;
+
+import org.testng.Assert;
+
+/**
+ * Assertions on the latency distribution and error rate recorded for one endpoint
+ */
+public class EndpointAssert {
+    private final String endpoint;
+    private final EndpointMetrics metrics;
+    
+    EndpointAssert(String endpoint, EndpointMetrics metrics) {
+        this.endpoint = endpoint;
+        this.metrics = metrics;
+    }
+    
+    public EndpointAssert hasCalls(long minimumCount) {
+        long count = metrics != null ? metrics.getCount() : 0;
+        Assert.assertTrue(count >= minimumCount,
+                String.format("%s expected at least %d calls but recorded %d", endpoint, minimumCount, count));
+        return this;
+    }
+    
+    /**
+     * The given percentile (0-100) must not exceed maxMs
+     */
+    public EndpointAssert percentileBelow(double percentile, double maxMs) {
+        hasCalls(1);
+        double actual = metrics.getPercentileMs(percentile);
+        Assert.assertTrue(actual <= maxMs,
+                String.format("%s p%s expected <= %.1fms but was %.1fms (%s)", endpoint, format(percentile), maxMs, actual,
+                        metrics.getLatency()));
+        return this;
+    }
+    
+    public EndpointAssert maxBelow(double maxMs) {
+        return percentileBelow(100, maxMs);
+    }
+    
+    /**
+     * Fraction (0-1) of calls with status 400 or above, or that threw, must not exceed maxErrorRate
+     */
+    public EndpointAssert errorRateBelow(double maxErrorRate) {
+        hasCalls(1);
+        double actual = metrics.getErrorRate();
+        Assert.assertTrue(actual <= maxErrorRate,
+                String.format("%s error rate expected <= %.2f%% but was %.2f%% (%d of %d)", endpoint,
+                        maxErrorRate * 100, actual * 100, metrics.getErrors(), metrics.getCount()));
+        return this;
+    }
+    
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.yourorg.api.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram and outcome counters for one method and endpoint template
+ */
+public class EndpointMetrics {
+    private final String method;
+    private final String template;
+    private final LatencyHistogram latency;
+    private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong exceptions = new AtomicLong();
+    
+    EndpointMetrics(String method, String template, long maxValueMicros) {
+        this.method = method;
+        this.template = template;
+        this.latency = new LatencyHistogram(maxValueMicros);
+    }
+    
+    void record(int statusCode, long nanos) {
+        latency.recordNanos(nanos);
+        statusClasses.incrementAndGet(Math.min(Math.max(statusCode / 100, 0), 5));
+        if (statusCode >= 400) {
+            errors.incrementAndGet();
+        }
+    }
+    
+    /**
+     * A call that never produced a response, e.g. a connection failure or timeout
+     */
+    void recordException(long nanos) {
+        latency.recordNanos(nanos);
+        exceptions.incrementAndGet();
+        errors.incrementAndGet();
+    }
+    
+    public String getMethod() {
+        return method;
+    }
+    
+    public String getTemplate() {
+        return template;
+    }
+    
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+    
+    public long getCount() {
+        return latency.getCount();
+    }
+    
+    /**
+     * Responses with status 400 or above plus calls that threw
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+    
+    public double getErrorRate() {
+        long count = latency.getCount();
+        return count > 0 ? (double) errors.get() / count : 0.0;
+    }
+    
+    public double getPercentileMs(double percentile) {
+        return latency.getPercentileMs(percentile);
+    }
+    
+    public void reset() {
+        latency.reset();
+        for (int i = 0; i < statusClasses.length(); i++) {
+            statusClasses.set(i, 0);
+        }
+        errors.set(0);
+        exceptions.set(0);
+    }
+    
+    /**
+     * Counts, error rate, status classes and latency percentiles, in export order
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("method", method);
+        summary.put("endpoint", template);
+        summary.putAll(latency.summary());
+        summary.put("errors", errors.get());
+        summary.put("errorRate", Math.round(getErrorRate() * 10000.0) / 10000.0);
+        for (int i = 1; i < statusClasses.length(); i++) {
+            summary.put(i + "xx", statusClasses.get(i));
+        }
+        summary.put("exceptions", exceptions.get());
+        return summary;
+    }
+    
+    @Override
+    public String toString() {
+        return method + " " + template + " " + summary();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.yourorg.api.metrics;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that times every request into the endpoint metrics registry
+ */
+public class EndpointMetricsFilter implements Filter {
+    private final EndpointMetricsRegistry registry;
+    
+    EndpointMetricsFilter(EndpointMetricsRegistry registry) {
+        this.registry = registry;
+    }
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        // The user-defined path keeps path-param placeholders such as /users/{userId}
+        String path = requestSpec.getUserDefinedPath();
+        if (path == null || path.isEmpty()) {
+            path = requestSpec.getURI();
+        }
+        
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            registry.recordException(requestSpec.getMethod(), path, System.nanoTime() - start);
+            throw e;
+        }
+        registry.record(requestSpec.getMethod(), path, response.getStatusCode(), System.nanoTime() - start);
+        return response;
+    }
+}
\ No newline at end of file
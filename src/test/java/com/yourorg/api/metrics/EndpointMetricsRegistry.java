@@ -0,0 +1,190 @@
+package com.yourorg.api.metrics;
+
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Per-endpoint latency and error metrics for every framework HTTP call, keyed by method and path template
+ * Id-like path segments are normalized to {id} so /users/123 and /users/456 share one histogram
+ */
+public class EndpointMetricsRegistry {
+    private static final Logger logger = LogManager.getLogger(EndpointMetricsRegistry.class);
+    private static final String OVERFLOW_TEMPLATE = "/{other}";
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern UUID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern HEX = Pattern.compile("[0-9a-fA-F]{16,}");
+    private static final Pattern PREFIXED_ID = Pattern.compile("[A-Za-z]+_[A-Za-z0-9]*\\d[A-Za-z0-9]*");
+    private static volatile EndpointMetricsRegistry instance;
+    
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final EndpointMetricsFilter filter = new EndpointMetricsFilter(this);
+    private final int maxEndpoints;
+    private final long maxValueMicros;
+    
+    private EndpointMetricsRegistry() {
+        this.maxEndpoints = ConfigLoader.getInt("api.metrics.max.endpoints", 500);
+        this.maxValueMicros = TimeUnit.SECONDS.toMicros(ConfigLoader.getInt("api.metrics.histogram.max.seconds", 300));
+    }
+    
+    /**
+     * Registry for the run, or null when api.metrics.enabled is false
+     */
+    public static EndpointMetricsRegistry getInstance() {
+        if (instance == null) {
+            if (!ConfigLoader.getBoolean("api.metrics.enabled", true)) {
+                return null;
+            }
+            synchronized (EndpointMetricsRegistry.class) {
+                if (instance == null) {
+                    instance = new EndpointMetricsRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public static boolean isInitialized() {
+        return instance != null;
+    }
+    
+    public EndpointMetricsFilter getFilter() {
+        return filter;
+    }
+    
+    void record(String method, String path, int statusCode, long nanos) {
+        metricsFor(method, path).record(statusCode, nanos);
+    }
+    
+    void recordException(String method, String path, long nanos) {
+        metricsFor(method, path).recordException(nanos);
+    }
+    
+    private EndpointMetrics metricsFor(String method, String path) {
+        String upperMethod = method.toUpperCase(Locale.ROOT);
+        String template = normalize(path);
+        String key = upperMethod + " " + template;
+        EndpointMetrics metrics = endpoints.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        // Unrecognized ids would otherwise create a histogram per request
+        if (endpoints.size() >= maxEndpoints) {
+            return endpoints.computeIfAbsent(upperMethod + " " + OVERFLOW_TEMPLATE,
+                    k -> new EndpointMetrics(upperMethod, OVERFLOW_TEMPLATE, maxValueMicros));
+        }
+        return endpoints.computeIfAbsent(key, k -> new EndpointMetrics(upperMethod, template, maxValueMicros));
+    }
+    
+    /**
+     * Path template for a request path or URL: query and host dropped, id-like segments replaced by {id}
+     */
+    public static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String normalized = path;
+        int scheme = normalized.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = normalized.indexOf('/', scheme + 3);
+            normalized = pathStart >= 0 ? normalized.substring(pathStart) : "/";
+        }
+        int query = normalized.indexOf('?');
+        if (query >= 0) {
+            normalized = normalized.substring(0, query);
+        }
+        
+        StringBuilder template = new StringBuilder(normalized.length());
+        for (String segment : normalized.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(isId(segment) ? "{id}" : segment);
+        }
+        return template.length() > 0 ? template.toString() : "/";
+    }
+    
+    private static boolean isId(String segment) {
+        return NUMERIC.matcher(segment).matches()
+                || UUID.matcher(segment).matches()
+                || HEX.matcher(segment).matches()
+                || PREFIXED_ID.matcher(segment).matches();
+    }
+    
+    /**
+     * Metrics for a method and template such as "/users/{id}"; raw paths are normalized first
+     */
+    public EndpointMetrics get(String method, String endpoint) {
+        return endpoints.get(method.toUpperCase(Locale.ROOT) + " " + normalize(endpoint));
+    }
+    
+    /**
+     * Fluent distribution assertions for one endpoint, e.g. assertThat("GET", "/users/{id}").percentileBelow(95, 300)
+     */
+    public EndpointAssert assertThat(String method, String endpoint) {
+        String template = normalize(endpoint);
+        EndpointMetrics metrics = get(method, template);
+        return new EndpointAssert(method.toUpperCase(Locale.ROOT) + " " + template, metrics);
+    }
+    
+    /**
+     * All endpoints, busiest first
+     */
+    public List<EndpointMetrics> getEndpoints() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparingLong(EndpointMetrics::getCount).reversed())
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Clear all recorded values, e.g. before measuring one scenario in isolation
+     */
+    public void reset() {
+        endpoints.values().forEach(EndpointMetrics::reset);
+    }
+    
+    public void logSummary() {
+        getEndpoints().forEach(metrics -> logger.info("Endpoint [{} {}] - {}",
+                metrics.getMethod(), metrics.getTemplate(), metrics.getLatency()));
+    }
+    
+    /**
+     * Write every endpoint summary as JSON under the reports directory; returns the file, or null on failure
+     */
+    public Path export() {
+        Path file = Paths.get(ConfigLoader.get("reports.path", "reports"),
+                ConfigLoader.get("api.metrics.export.file", "endpoint-metrics.json"));
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        getEndpoints().forEach(metrics -> summaries.add(metrics.summary()));
+        report.put("endpoints", summaries);
+        
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            JsonCodec.prettyWriter().writeValue(file.toFile(), report);
+            logger.info("Endpoint metrics exported - Endpoints: {}, File: {}", summaries.size(), file);
+            return file;
+        } catch (Exception e) {
+            logger.warn("Failed to export endpoint metrics to {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+}
\ No newline at end of file
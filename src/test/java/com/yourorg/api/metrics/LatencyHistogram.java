@@ -0,0 +1,162 @@
+package com.yourorg.api.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds, in the style of HdrHistogram
+ * Values below 2048us are exact; above that each power of two is split into 1024 buckets (~0.1% error)
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 2048;
+    private static final int SUB_BUCKETS = 1024;
+    private static final int SUB_BUCKET_BITS = 10;
+    
+    private final long maxValueMicros;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+    
+    /**
+     * Tracks values up to one hour; larger values are clamped
+     */
+    public LatencyHistogram() {
+        this(TimeUnit.HOURS.toMicros(1));
+    }
+    
+    public LatencyHistogram(long maxValueMicros) {
+        this.maxValueMicros = Math.max(maxValueMicros, LINEAR_BUCKETS);
+        this.counts = new AtomicLongArray(indexOf(this.maxValueMicros) + 1);
+    }
+    
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+    
+    public void recordMicros(long micros) {
+        long value = Math.min(Math.max(micros, 0), maxValueMicros);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        minMicros.accumulateAndGet(value, Math::min);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+    
+    private static int indexOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        // Shift so the value lands in [1024, 2048) within its power-of-two range
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+    }
+    
+    /**
+     * Highest value that falls in the bucket, so percentiles never under-report
+     */
+    private static long highestValueAt(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+    
+    /**
+     * Value at the given percentile (0-100) in microseconds
+     */
+    public long getPercentileMicros(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueAt(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+    
+    public double getPercentileMs(double percentile) {
+        return getPercentileMicros(percentile) / 1000.0;
+    }
+    
+    public long getCount() {
+        return totalCount.get();
+    }
+    
+    public double getMeanMs() {
+        long count = totalCount.get();
+        return count > 0 ? totalMicros.get() / 1000.0 / count : 0.0;
+    }
+    
+    public double getMinMs() {
+        return totalCount.get() > 0 ? minMicros.get() / 1000.0 : 0.0;
+    }
+    
+    public double getMaxMs() {
+        return maxMicros.get() / 1000.0;
+    }
+    
+    /**
+     * Add another histogram's counts, e.g. to combine per-thread or per-phase histograms
+     */
+    public void add(LatencyHistogram other) {
+        int length = Math.min(counts.length(), other.counts.length());
+        for (int i = 0; i < length; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        minMicros.accumulateAndGet(other.minMicros.get(), Math::min);
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+    
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalMicros.set(0);
+        minMicros.set(Long.MAX_VALUE);
+        maxMicros.set(0);
+    }
+    
+    /**
+     * count, mean, p50, p90, p95, p99, p99.9 and max in milliseconds
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("meanMs", round(getMeanMs()));
+        summary.put("p50Ms", round(getPercentileMs(50)));
+        summary.put("p90Ms", round(getPercentileMs(90)));
+        summary.put("p95Ms", round(getPercentileMs(95)));
+        summary.put("p99Ms", round(getPercentileMs(99)));
+        summary.put("p999Ms", round(getPercentileMs(99.9)));
+        summary.put("maxMs", round(getMaxMs()));
+        return summary;
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+    
+    @Override
+    public String toString() {
+        return summary().toString();
+    }
+}
\ No newline at end of file
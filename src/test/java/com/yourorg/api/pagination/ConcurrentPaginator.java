@@ -0,0 +1,264 @@
+package com.yourorg.api.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yourorg.api.managers.HttpConnectionManager;
+import com.yourorg.models.responses.PaginatedResponse;
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Page-number paginator that prefetches pages concurrently and hands records over in order
+ * The first page reveals totalPages (or totalCount); later pages are fetched within a bounded window
+ * so at most window pages are held at once. Without a total it pages sequentially on hasNext or nextCursor
+ */
+public class ConcurrentPaginator implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(ConcurrentPaginator.class);
+    private static final TypeReference<PaginatedResponse<Map<String, Object>>> PAGE_TYPE =
+            new TypeReference<PaginatedResponse<Map<String, Object>>>() {};
+    
+    private final String endpoint;
+    private final String authToken;
+    private final int pageSize;
+    private final int window;
+    private final ObjectReader pageReader;
+    private ExecutorService fetchers;
+    
+    public ConcurrentPaginator(String endpoint, String authToken, int pageSize) {
+        this(endpoint, authToken, pageSize, ConfigLoader.getInt("api.pagination.window", 4));
+    }
+    
+    /**
+     * @param window maximum pages in flight or waiting to be consumed
+     */
+    public ConcurrentPaginator(String endpoint, String authToken, int pageSize, int window) {
+        this.endpoint = endpoint;
+        this.authToken = authToken;
+        this.pageSize = pageSize;
+        this.window = Math.max(1, window);
+        this.pageReader = JsonCodec.reader(PAGE_TYPE);
+    }
+    
+    /**
+     * Deliver every record in page order; returns the number of records delivered
+     */
+    public long forEach(Consumer<Map<String, Object>> consumer) {
+        long count = 0;
+        try {
+            Iterator<List<Map<String, Object>>> pages = pages();
+            while (pages.hasNext()) {
+                for (Map<String, Object> record : pages.next()) {
+                    consumer.accept(record);
+                    count++;
+                }
+            }
+        } finally {
+            close();
+        }
+        return count;
+    }
+    
+    /**
+     * Records in page order; pages are fetched as the stream is consumed. Close the stream to stop prefetching early
+     */
+    public Stream<Map<String, Object>> stream() {
+        Iterator<List<Map<String, Object>>> pages = pages();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream)
+                .onClose(this::close);
+    }
+    
+    /**
+     * Pages in order, starting with a synchronous fetch of page 1
+     */
+    public Iterator<List<Map<String, Object>>> pages() {
+        PaginatedResponse<Map<String, Object>> first = fetch(1, null);
+        if (first == null) {
+            return Collections.emptyIterator();
+        }
+        
+        int totalPages = totalPages(first);
+        if (totalPages > 0) {
+            logger.info("Paginating {} - Total Pages: {}, Page Size: {}, Window: {}", endpoint, totalPages, pageSize, window);
+            return new PrefetchingIterator(first, totalPages);
+        }
+        logger.info("Paginating {} sequentially - total unknown", endpoint);
+        return new SequentialIterator(first);
+    }
+    
+    private int totalPages(PaginatedResponse<Map<String, Object>> first) {
+        if (first.getTotalPages() != null) {
+            return first.getTotalPages();
+        }
+        if (first.getTotalCount() != null) {
+            int size = first.getPageSize() != null && first.getPageSize() > 0 ? first.getPageSize() : pageSize;
+            return (int) Math.max(1, (first.getTotalCount() + size - 1) / size);
+        }
+        return -1;
+    }
+    
+    /**
+     * One page, or null when the request fails
+     */
+    private PaginatedResponse<Map<String, Object>> fetch(int page, String cursor) {
+        RequestSpecification spec = HttpConnectionManager.getInstance().given()
+                .header("Authorization", "Bearer " + authToken)
+                .queryParam("size", pageSize);
+        spec = cursor != null ? spec.queryParam("cursor", cursor) : spec.queryParam("page", page);
+        Response response = spec.get(endpoint);
+        
+        if (response.getStatusCode() != 200) {
+            logger.error("Failed to fetch page {}: {}", page, response.getStatusCode());
+            return null;
+        }
+        try {
+            PaginatedResponse<Map<String, Object>> result = pageReader.readValue(response.getBody().asByteArray());
+            if (result.getData() == null) {
+                result.setData(Collections.emptyList());
+            }
+            logger.debug("Fetched page {} with {} records", page, result.getData().size());
+            return result;
+        } catch (Exception e) {
+            logger.error("Failed to parse page {}: {}", page, e.getMessage());
+            return null;
+        }
+    }
+    
+    private synchronized ExecutorService fetchers() {
+        if (fetchers == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            fetchers = Executors.newFixedThreadPool(window, runnable -> {
+                Thread thread = new Thread(runnable, "page-fetch-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return fetchers;
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (fetchers != null) {
+            fetchers.shutdownNow();
+            fetchers = null;
+        }
+    }
+    
+    /**
+     * Known page count: keeps up to window pages in flight and yields them in page order
+     */
+    private class PrefetchingIterator implements Iterator<List<Map<String, Object>>> {
+        private final Deque<CompletableFuture<PaginatedResponse<Map<String, Object>>>> inFlight = new ArrayDeque<>();
+        private final int totalPages;
+        private List<Map<String, Object>> firstPage;
+        private int nextToSubmit = 2;
+        private boolean failed;
+        
+        PrefetchingIterator(PaginatedResponse<Map<String, Object>> first, int totalPages) {
+            this.firstPage = first.getData();
+            this.totalPages = totalPages;
+            fill();
+        }
+        
+        private void fill() {
+            while (!failed && inFlight.size() < window && nextToSubmit <= totalPages) {
+                int page = nextToSubmit++;
+                inFlight.addLast(CompletableFuture.supplyAsync(() -> fetch(page, null), fetchers()));
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return firstPage != null || (!failed && !inFlight.isEmpty());
+        }
+        
+        @Override
+        public List<Map<String, Object>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (firstPage != null) {
+                List<Map<String, Object>> page = firstPage;
+                firstPage = null;
+                return page;
+            }
+            
+            PaginatedResponse<Map<String, Object>> page;
+            try {
+                page = inFlight.removeFirst().join();
+            } catch (CompletionException e) {
+                page = null;
+                logger.error("Page fetch failed: {}", e.getCause().getMessage());
+            }
+            if (page == null) {
+                // Same as the sequential loop: stop at the first failed page
+                failed = true;
+                inFlight.forEach(future -> future.cancel(true));
+                inFlight.clear();
+                close();
+                return Collections.emptyList();
+            }
+            fill();
+            if (inFlight.isEmpty()) {
+                close();
+            }
+            return page.getData();
+        }
+    }
+    
+    /**
+     * Unknown page count: one request at a time, following nextCursor when present, else hasNext
+     */
+    private class SequentialIterator implements Iterator<List<Map<String, Object>>> {
+        private PaginatedResponse<Map<String, Object>> current;
+        private int page = 1;
+        
+        SequentialIterator(PaginatedResponse<Map<String, Object>> first) {
+            this.current = first;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+        
+        @Override
+        public List<Map<String, Object>> next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            PaginatedResponse<Map<String, Object>> page = current;
+            current = hasMore(page) ? fetch(++this.page, page.getNextCursor()) : null;
+            return page.getData();
+        }
+        
+        private boolean hasMore(PaginatedResponse<Map<String, Object>> page) {
+            if (page.getData().isEmpty()) {
+                return false;
+            }
+            return page.getNextCursor() != null || Boolean.TRUE.equals(page.getHasNext());
+        }
+    }
+}
\ No newline at end of file
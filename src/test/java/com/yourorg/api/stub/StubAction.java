@@ -0,0 +1,62 @@
+package com.yourorg.api.stub;
+
+import com.yourorg.api.chains.ChainTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixture route with its own behaviour, e.g. POST /payments/intent or PUT /orders/{id}/confirm
+ * An action creates into a collection, merges fields into a stored record, or returns a templated body
+ */
+public class StubAction {
+    private final String method;
+    private final String[] segments;
+    private final String collection;
+    private final int status;
+    private final boolean create;
+    private final boolean auth;
+    private final StubRules rules;
+    private final Map<String, Object> set;
+    private final ChainTemplate body;
+    
+    @SuppressWarnings("unchecked")
+    StubAction(Map<String, Object> spec) {
+        this.method = String.valueOf(spec.get("method")).toUpperCase();
+        this.segments = StubServer.segments(String.valueOf(spec.get("path"))).toArray(new String[0]);
+        this.collection = (String) spec.get("collection");
+        this.status = ((Number) spec.getOrDefault("status", 200)).intValue();
+        this.create = Boolean.TRUE.equals(spec.get("create"));
+        this.auth = !Boolean.FALSE.equals(spec.get("auth"));
+        this.rules = new StubRules(spec);
+        this.set = (Map<String, Object>) spec.getOrDefault("set", Collections.emptyMap());
+        this.body = spec.containsKey("body") ? ChainTemplate.compile(spec.get("body")) : null;
+    }
+    
+    /**
+     * Path id when the route matches ("" for routes without {id}), or null
+     */
+    String match(String requestMethod, List<String> requestSegments) {
+        if (!method.equals(requestMethod) || segments.length != requestSegments.size()) {
+            return null;
+        }
+        String id = "";
+        for (int i = 0; i < segments.length; i++) {
+            if ("{id}".equals(segments[i])) {
+                id = requestSegments.get(i);
+            } else if (!segments[i].equals(requestSegments.get(i))) {
+                return null;
+            }
+        }
+        return id;
+    }
+    
+    public String getCollection() { return collection; }
+    public int getStatus() { return status; }
+    public boolean isCreate() { return create; }
+    public boolean isAuth() { return auth; }
+    public StubRules getRules() { return rules; }
+    public Map<String, Object> getSet() { return set; }
+    public ChainTemplate getBody() { return body; }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.yourorg.api.stub;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory stateful resource collection: create, read, update and delete by id
+ */
+public class StubCollection {
+    private static final Set<String> ALL_METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    
+    private final String name;
+    private final String idPrefix;
+    private final int createStatus;
+    private final Set<String> methods;
+    private final StubRules rules;
+    private final Map<String, Map<String, Object>> records = new ConcurrentHashMap<>();
+    // Creation order of stored records, so lists come back oldest first regardless of id width
+    private final Map<String, Long> createdOrder = new ConcurrentHashMap<>();
+    // Deleted ids, so records served by the fallback stay deleted
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile Function<String, Map<String, Object>> fallback = id -> null;
+    
+    @SuppressWarnings("unchecked")
+    StubCollection(String name, Map<String, Object> spec) {
+        this.name = name;
+        this.idPrefix = (String) spec.getOrDefault("idPrefix", name + "_");
+        this.createStatus = ((Number) spec.getOrDefault("createStatus", 201)).intValue();
+        List<String> allowed = (List<String>) spec.get("methods");
+        this.methods = allowed != null ? Set.copyOf(allowed) : ALL_METHODS;
+        this.rules = new StubRules(spec);
+    }
+    
+    /**
+     * Lookup for records that exist outside the store, e.g. the generated user dataset
+     */
+    void setFallback(Function<String, Map<String, Object>> fallback) {
+        this.fallback = fallback;
+    }
+    
+    public boolean allows(String method) {
+        return methods.contains(method);
+    }
+    
+    public String validate(Map<String, Object> body) {
+        return rules.validate(body);
+    }
+    
+    public Map<String, Object> create(Map<String, Object> body) {
+        return create(body, rules);
+    }
+    
+    /**
+     * Create with another rule set, for actions such as /payments/intent that store into this collection
+     */
+    public Map<String, Object> create(Map<String, Object> body, StubRules createRules) {
+        long created = ids.incrementAndGet();
+        String id = idPrefix + created;
+        Map<String, Object> record = createRules.shape(body, id, sequence);
+        createdOrder.put(id, created);
+        records.put(id, record);
+        deleted.remove(id);
+        return record;
+    }
+    
+    public Map<String, Object> get(String id) {
+        Map<String, Object> record = records.get(id);
+        if (record != null) {
+            return record;
+        }
+        return deleted.contains(id) ? null : fallback.apply(id);
+    }
+    
+    /**
+     * Merge fields into an existing record; null when it does not exist
+     */
+    public Map<String, Object> update(String id, Map<String, Object> fields) {
+        Map<String, Object> existing = get(id);
+        if (existing == null) {
+            return null;
+        }
+        Map<String, Object> updated = new LinkedHashMap<>(existing);
+        updated.putAll(fields);
+        updated.put("id", id);
+        records.put(id, updated);
+        return updated;
+    }
+    
+    /**
+     * Delete a stored or fallback record; false when it does not exist or is already deleted
+     */
+    public boolean delete(String id) {
+        if (get(id) == null) {
+            return false;
+        }
+        records.remove(id);
+        createdOrder.remove(id);
+        return deleted.add(id);
+    }
+    
+    public List<Map<String, Object>> list() {
+        List<Map<String, Object>> values = new ArrayList<>(records.values());
+        values.sort(Comparator.comparingLong(record -> createdOrder.getOrDefault(String.valueOf(record.get("id")),
+                Long.MAX_VALUE)));
+        return Collections.unmodifiableList(values);
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getCreateStatus() {
+        return createStatus;
+    }
+    
+    public int size() {
+        return records.size();
+    }
+}
\ No newline at end of file
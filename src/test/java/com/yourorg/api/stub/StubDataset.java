@@ -0,0 +1,146 @@
+package com.yourorg.api.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generated user dataset held as pre-serialized JSON records
+ * List responses are assembled by copying bytes, so large pages cost no serialization per request
+ */
+public class StubDataset {
+    private static final Logger logger = LogManager.getLogger(StubDataset.class);
+    private static final String[] ROLES = {"admin", "support", "customer", "customer", "customer"};
+    private static final LocalDate EPOCH = LocalDate.of(2023, 1, 1);
+    
+    private final List<byte[]> records;
+    private final Map<String, Integer> byId = new HashMap<>();
+    private final Map<String, Integer> byEmail = new HashMap<>();
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * @param pinned fixture users placed first, before the generated ones
+     */
+    public StubDataset(int count, List<Map<String, Object>> pinned, ObjectMapper objectMapper) throws Exception {
+        this.objectMapper = objectMapper;
+        this.records = new ArrayList<>(count + pinned.size());
+        long start = System.nanoTime();
+        
+        for (Map<String, Object> user : pinned) {
+            add(user);
+        }
+        for (int n = 1; records.size() < count + pinned.size(); n++) {
+            String id = "user_" + n;
+            if (!byId.containsKey(id)) {
+                add(generate(n, id));
+            }
+        }
+        
+        logger.info("Stub user dataset generated - Records: {}, Time: {}ms",
+                records.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    private void add(Map<String, Object> user) throws Exception {
+        int position = records.size();
+        records.add(objectMapper.writeValueAsBytes(user));
+        byId.put(String.valueOf(user.get("id")), position);
+        if (user.get("email") != null) {
+            byEmail.put(String.valueOf(user.get("email")), position);
+        }
+    }
+    
+    private static Map<String, Object> generate(int n, String id) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", id);
+        user.put("username", "user" + n);
+        user.put("email", "user" + n + "@example.com");
+        user.put("firstName", "First" + n);
+        user.put("lastName", "Last" + n);
+        user.put("role", ROLES[n % ROLES.length]);
+        user.put("isActive", n % 5 != 0);
+        user.put("createdAt", EPOCH.plusDays((n * 7L) % 730) + "T10:00:00Z");
+        return user;
+    }
+    
+    public int size() {
+        return records.size();
+    }
+    
+    public byte[] findById(String id) {
+        Integer position = byId.get(id);
+        return position != null ? records.get(position) : null;
+    }
+    
+    public byte[] findByEmail(String email) {
+        Integer position = byEmail.get(email);
+        return position != null ? records.get(position) : null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> parse(byte[] record) {
+        try {
+            return objectMapper.readValue(record, Map.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Corrupt stub dataset record", e);
+        }
+    }
+    
+    /**
+     * Records [offset, offset + limit) as a JSON array
+     */
+    public byte[] slice(int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), records.size());
+        int to = Math.min(from + Math.max(limit, 0), records.size());
+        return array(from, to);
+    }
+    
+    /**
+     * One page in the paginated envelope the framework expects: data, page, size, totalItems, totalPages, hasNext
+     */
+    public byte[] page(int page, int size) {
+        int pageSize = Math.max(size, 1);
+        int totalPages = Math.max(1, (records.size() + pageSize - 1) / pageSize);
+        int from = Math.min((Math.max(page, 1) - 1) * pageSize, records.size());
+        int to = Math.min(from + pageSize, records.size());
+        
+        byte[] data = array(from, to);
+        String tail = String.format(",\"page\":%d,\"size\":%d,\"totalItems\":%d,\"totalPages\":%d,\"hasNext\":%b}",
+                page, pageSize, records.size(), totalPages, page < totalPages);
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + 96);
+        out.writeBytes("{\"data\":".getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(data);
+        out.writeBytes(tail.getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+    
+    private byte[] array(int from, int to) {
+        int length = 2 + Math.max(0, to - from - 1);
+        for (int i = from; i < to; i++) {
+            length += records.get(i).length;
+        }
+        
+        byte[] out = new byte[length];
+        int position = 0;
+        out[position++] = '[';
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out[position++] = ',';
+            }
+            byte[] record = records.get(i);
+            System.arraycopy(record, 0, out, position, record.length);
+            position += record.length;
+        }
+        out[position] = ']';
+        return out;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.yourorg.api.stub;
+
+import com.yourorg.utils.ConfigLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency, server error and rate limit injection for stub responses
+ */
+public class StubFaults {
+    private final int latencyMs;
+    private final int jitterMs;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final List<String> excludedPrefixes = new ArrayList<>();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injectedRateLimits = new AtomicLong();
+    
+    public StubFaults(int latencyMs, int jitterMs, double errorRate, double rateLimitRate, String excludedPrefixes) {
+        this.latencyMs = Math.max(0, latencyMs);
+        this.jitterMs = Math.max(0, jitterMs);
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+        for (String prefix : excludedPrefixes.split(",")) {
+            if (!prefix.trim().isEmpty()) {
+                this.excludedPrefixes.add(prefix.trim());
+            }
+        }
+    }
+    
+    public static StubFaults fromConfig() {
+        return new StubFaults(
+                ConfigLoader.getInt("api.stub.latency.ms", 0),
+                ConfigLoader.getInt("api.stub.latency.jitter.ms", 0),
+                Double.parseDouble(ConfigLoader.get("api.stub.error.rate", "0")),
+                Double.parseDouble(ConfigLoader.get("api.stub.rate.limit.rate", "0")),
+                ConfigLoader.get("api.stub.fault.excluded.paths", "/auth"));
+    }
+    
+    /**
+     * Delay before the response is written, in milliseconds
+     */
+    public int delayMs() {
+        return jitterMs > 0 ? latencyMs + ThreadLocalRandom.current().nextInt(jitterMs + 1) : latencyMs;
+    }
+    
+    /**
+     * Status to fail the request with (500 or 429), or 0 to serve it normally
+     */
+    public int failureStatus(String path) {
+        if (errorRate <= 0 && rateLimitRate <= 0) {
+            return 0;
+        }
+        for (String prefix : excludedPrefixes) {
+            if (path.startsWith(prefix)) {
+                return 0;
+            }
+        }
+        
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < rateLimitRate) {
+            injectedRateLimits.incrementAndGet();
+            return 429;
+        }
+        if (roll < rateLimitRate + errorRate) {
+            injectedErrors.incrementAndGet();
+            return 500;
+        }
+        return 0;
+    }
+    
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+    
+    public long getInjectedRateLimits() {
+        return injectedRateLimits.get();
+    }
+}
\ No newline at end of file
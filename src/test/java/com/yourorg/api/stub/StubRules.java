@@ -0,0 +1,85 @@
+package com.yourorg.api.stub;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Validation and shaping rules applied to a request body before it is stored or echoed
+ */
+public class StubRules {
+    private final List<String> required;
+    private final List<String> positive;
+    private final Map<String, Pattern> patterns = new LinkedHashMap<>();
+    private final List<String> drop;
+    private final Map<String, Object> defaults;
+    private final Map<String, String> generated;
+    
+    @SuppressWarnings("unchecked")
+    StubRules(Map<String, Object> spec) {
+        this.required = (List<String>) spec.getOrDefault("required", Collections.emptyList());
+        this.positive = (List<String>) spec.getOrDefault("positive", Collections.emptyList());
+        this.drop = (List<String>) spec.getOrDefault("drop", Collections.emptyList());
+        this.defaults = (Map<String, Object>) spec.getOrDefault("defaults", Collections.emptyMap());
+        this.generated = (Map<String, String>) spec.getOrDefault("generated", Collections.emptyMap());
+        ((Map<String, String>) spec.getOrDefault("patterns", Collections.emptyMap()))
+                .forEach((field, pattern) -> patterns.put(field, Pattern.compile(pattern)));
+    }
+    
+    /**
+     * First violation as a message, or null when the body is acceptable
+     */
+    public String validate(Map<String, Object> body) {
+        for (String field : required) {
+            Object value = body.get(field);
+            if (value == null || (value instanceof String && ((String) value).isEmpty())) {
+                return "Missing required field: " + field;
+            }
+        }
+        for (String field : positive) {
+            Object value = body.get(field);
+            if (value != null && (!(value instanceof Number) || ((Number) value).doubleValue() <= 0)) {
+                return "Field must be a positive number: " + field;
+            }
+        }
+        for (Map.Entry<String, Pattern> entry : patterns.entrySet()) {
+            Object value = body.get(entry.getKey());
+            if (value != null && !entry.getValue().matcher(String.valueOf(value)).matches()) {
+                return "Invalid format for field: " + entry.getKey();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Stored record: defaults, then the body without dropped fields, then id, generated fields and createdAt
+     */
+    public Map<String, Object> shape(Map<String, Object> body, String id, AtomicLong sequence) {
+        Map<String, Object> record = new LinkedHashMap<>(defaults);
+        body.forEach((field, value) -> {
+            if (!drop.contains(field)) {
+                record.put(field, value);
+            }
+        });
+        record.put("id", id);
+        generated.forEach((field, kind) -> record.put(field, generate(kind, sequence)));
+        record.putIfAbsent("createdAt", Instant.now().toString());
+        return record;
+    }
+    
+    private static Object generate(String kind, AtomicLong sequence) {
+        switch (kind) {
+            case "sequence":
+                return "N" + sequence.incrementAndGet();
+            case "secret":
+                return "secret_" + UUID.randomUUID().toString().replace("-", "");
+            default:
+                return UUID.randomUUID().toString();
+        }
+    }
+}
\ No newline at end of file
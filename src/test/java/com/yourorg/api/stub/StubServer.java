@@ -0,0 +1,539 @@
+package com.yourorg.api.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.JsonCodec;
+import com.yourorg.utils.EnvReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stub of the QA API for offline runs and framework load tests
+ * Serves auth, a generated user dataset, stateful CRUD collections and fixture actions over the JDK NIO HTTP server
+ */
+public class StubServer {
+    private static final Logger logger = LogManager.getLogger(StubServer.class);
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
+    private static final byte[] NO_BODY = new byte[0];
+    private static volatile StubServer instance;
+    
+    private final Map<String, StubCollection> collections = new ConcurrentHashMap<>();
+    private final Map<String, Object> defaultCollectionSpec;
+    private final List<StubAction> actions = new ArrayList<>();
+    private final StubDataset users;
+    private final StubFaults faults;
+    private final long tokenTtlMs;
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> profiles = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+    
+    private HttpServer server;
+    private ExecutorService workers;
+    private ScheduledExecutorService delayer;
+    private String baseUrl;
+    private long startedAt;
+    
+    @SuppressWarnings("unchecked")
+    private StubServer() throws Exception {
+        String fixturesPath = ConfigLoader.get("api.stub.fixtures", "src/test/resources/stub/fixtures.json");
+        Map<String, Object> fixtures = objectMapper.readValue(new File(fixturesPath), Map.class);
+        
+        defaultCollectionSpec = (Map<String, Object>) fixtures.getOrDefault("defaultCollection", Collections.emptyMap());
+        ((Map<String, Map<String, Object>>) fixtures.getOrDefault("collections", Collections.emptyMap()))
+                .forEach((name, spec) -> collections.put(name, new StubCollection(name, spec)));
+        ((List<Map<String, Object>>) fixtures.getOrDefault("actions", Collections.emptyList()))
+                .forEach(spec -> actions.add(new StubAction(spec)));
+        
+        Map<String, Object> userSpec = (Map<String, Object>) fixtures.getOrDefault("users", Collections.emptyMap());
+        int userCount = ConfigLoader.getInt("api.stub.users.count",
+                ((Number) userSpec.getOrDefault("count", 100000)).intValue());
+        users = new StubDataset(userCount,
+                (List<Map<String, Object>>) userSpec.getOrDefault("pinned", Collections.emptyList()), objectMapper);
+        collection("users").setFallback(id -> {
+            byte[] record = users.findById(id);
+            return record != null ? users.parse(record) : null;
+        });
+        
+        faults = StubFaults.fromConfig();
+        tokenTtlMs = ConfigLoader.getInt("api.stub.token.ttl.seconds", 3600) * 1000L;
+        logger.info("Stub fixtures loaded from {} - Collections: {}, Actions: {}, Users: {}",
+                fixturesPath, collections.keySet(), actions.size(), users.size());
+    }
+    
+    /**
+     * API_STUB environment/system property, then api.stub.enabled
+     */
+    public static boolean isEnabled() {
+        return EnvReader.getBoolean("API_STUB", ConfigLoader.getBoolean("api.stub.enabled", false));
+    }
+    
+    public static StubServer getInstance() {
+        if (instance == null) {
+            synchronized (StubServer.class) {
+                if (instance == null) {
+                    try {
+                        instance = new StubServer();
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Failed to initialize stub server", e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public static boolean isRunning() {
+        return instance != null && instance.server != null;
+    }
+    
+    /**
+     * Start listening and return the base URL, e.g. http://127.0.0.1:PORT
+     */
+    public synchronized String start() throws IOException {
+        if (server != null) {
+            return baseUrl;
+        }
+        
+        // Small JSON responses otherwise wait on Nagle's algorithm
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        
+        int port = ConfigLoader.getInt("api.stub.port", 0);
+        int threads = ConfigLoader.getInt("api.stub.threads", Runtime.getRuntime().availableProcessors() * 2);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), ConfigLoader.getInt("api.stub.backlog", 1024));
+        
+        AtomicInteger threadCounter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-api-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Injected latency is a scheduled hand-off back to the workers, so slow responses hold no thread while waiting
+        // and the single timer thread never blocks on a client's socket
+        delayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stub-api-delay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+        server.start();
+        startedAt = System.nanoTime();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        
+        logger.info("Stub API server started - URL: {}, Threads: {}", baseUrl, threads);
+        return baseUrl;
+    }
+    
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        logStats();
+        server.stop(0);
+        workers.shutdownNow();
+        delayer.shutdownNow();
+        server = null;
+        logger.info("Stub API server stopped");
+    }
+    
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+    
+    private void handle(HttpExchange exchange) {
+        requests.incrementAndGet();
+        Reply reply;
+        try {
+            String path = exchange.getRequestURI().getRawPath();
+            int failure = faults.failureStatus(path);
+            if (failure > 0) {
+                reply = failure == 429
+                        ? error(429, "Rate limit exceeded").header("Retry-After", "1")
+                        : error(500, "Injected server error");
+            } else {
+                reply = route(exchange, exchange.getRequestMethod().toUpperCase(Locale.ROOT), segments(path));
+            }
+        } catch (IllegalArgumentException e) {
+            reply = error(400, e.getMessage());
+        } catch (Exception e) {
+            logger.debug("Stub request failed: {}", e.getMessage());
+            reply = error(500, "Stub error: " + e.getMessage());
+        }
+        
+        int delay = faults.delayMs();
+        if (delay > 0) {
+            Reply delayed = reply;
+            delayer.schedule(() -> workers.execute(() -> send(exchange, delayed)), delay, TimeUnit.MILLISECONDS);
+        } else {
+            send(exchange, reply);
+        }
+    }
+    
+    private Reply route(HttpExchange exchange, String method, List<String> segments) throws Exception {
+        if (!segments.isEmpty() && "auth".equals(segments.get(0))) {
+            return auth(method, String.join("/", segments.subList(1, segments.size())), exchange);
+        }
+        
+        String token = bearerToken(exchange);
+        boolean authorized = isValidToken(token);
+        
+        for (StubAction action : actions) {
+            String id = action.match(method, segments);
+            if (id != null) {
+                return action.isAuth() && !authorized ? error(401, "Unauthorized") : action(action, id, readBody(exchange));
+            }
+        }
+        
+        if (!authorized) {
+            return error(401, "Unauthorized");
+        }
+        if (segments.isEmpty()) {
+            return error(404, "Not found");
+        }
+        
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        if ("users".equals(segments.get(0))) {
+            Reply usersReply = users(method, segments, query, token, exchange);
+            if (usersReply != null) {
+                return usersReply;
+            }
+        }
+        if (segments.size() > 2) {
+            return error(404, "Not found");
+        }
+        return crud(collection(segments.get(0)), method, segments, query, exchange);
+    }
+    
+    /**
+     * login and admin/login accept only the configured test and admin credentials; validate checks X-API-Key
+     */
+    private Reply auth(String method, String endpoint, HttpExchange exchange) throws Exception {
+        if (!"POST".equals(method)) {
+            return error(405, "Method not allowed");
+        }
+        Map<String, Object> body = readBody(exchange);
+        Object username = body.get("username");
+        Object password = body.get("password");
+        boolean valid;
+        switch (endpoint) {
+            case "login":
+                valid = credentialsMatch(username, password, "test.username", "testuser", "test.password", "testpass")
+                        || credentialsMatch(username, password,
+                                "api.test.username", "testuser", "api.test.password", "testpass");
+                break;
+            case "admin/login":
+                valid = credentialsMatch(username, password, "admin.username", "admin", "admin.password", "admin123");
+                break;
+            case "validate":
+                username = "api-client";
+                valid = ConfigLoader.get("api.key", "test-api-key")
+                        .equals(exchange.getRequestHeaders().getFirst("X-API-Key"));
+                break;
+            default:
+                return error(404, "Not found");
+        }
+        if (!valid) {
+            return error(401, "Invalid credentials");
+        }
+        
+        String token = "stub." + UUID.randomUUID();
+        tokens.put(token, System.currentTimeMillis() + tokenTtlMs);
+        
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("id", "usr_" + username);
+        profile.put("username", username);
+        profile.put("email", username + "@example.com");
+        profile.put("isActive", true);
+        profiles.put(token, profile);
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("token", token);
+        response.put("tokenType", "Bearer");
+        response.put("expiresIn", tokenTtlMs / 1000);
+        return json(200, response);
+    }
+    
+    private static boolean credentialsMatch(Object username, Object password, String usernameKey,
+                                            String defaultUsername, String passwordKey, String defaultPassword) {
+        return ConfigLoader.get(usernameKey, defaultUsername).equals(username)
+                && ConfigLoader.get(passwordKey, defaultPassword).equals(password);
+    }
+    
+    private Reply users(String method, List<String> segments, Map<String, String> query, String token,
+                        HttpExchange exchange) throws Exception {
+        if (segments.size() == 1 && "GET".equals(method)) {
+            if (query.containsKey("page") || query.containsKey("size")) {
+                int size = Math.min(intParam(query, "size", 20), ConfigLoader.getInt("api.stub.max.page.size", 1000));
+                return bytes(200, users.page(intParam(query, "page", 1), size));
+            }
+            return bytes(200, users.slice(intParam(query, "offset", 0), intParam(query, "limit", 100)));
+        }
+        
+        if (segments.size() == 2 && "profile".equals(segments.get(1))) {
+            if ("GET".equals(method) && query.containsKey("email")) {
+                byte[] user = users.findByEmail(query.get("email"));
+                return user != null ? bytes(200, user) : error(404, "User not found");
+            }
+            Map<String, Object> profile = profiles.get(token);
+            if ("PUT".equals(method)) {
+                Map<String, Object> updated = new LinkedHashMap<>(profile);
+                updated.putAll(readBody(exchange));
+                profiles.put(token, updated);
+                return json(200, updated);
+            }
+            return "GET".equals(method) ? json(200, profile) : error(405, "Method not allowed");
+        }
+        return null;
+    }
+    
+    private Reply crud(StubCollection collection, String method, List<String> segments, Map<String, String> query,
+                       HttpExchange exchange) throws Exception {
+        if (!collection.allows(method)) {
+            return error(405, "Method not allowed");
+        }
+        
+        if (segments.size() == 1) {
+            switch (method) {
+                case "GET":
+                    return json(200, page(collection.list(), query));
+                case "POST":
+                    Map<String, Object> body = readBody(exchange);
+                    String violation = collection.validate(body);
+                    return violation != null ? error(400, violation) : json(collection.getCreateStatus(), collection.create(body));
+                default:
+                    return error(405, "Method not allowed");
+            }
+        }
+        
+        String id = segments.get(1);
+        switch (method) {
+            case "GET": {
+                Map<String, Object> record = collection.get(id);
+                return record != null ? json(200, record) : error(404, "Not found: " + id);
+            }
+            case "PUT":
+            case "PATCH": {
+                Map<String, Object> record = collection.update(id, readBody(exchange));
+                return record != null ? json(200, record) : error(404, "Not found: " + id);
+            }
+            case "DELETE":
+                return collection.delete(id) ? bytes(204, NO_BODY) : error(404, "Not found: " + id);
+            default:
+                return error(405, "Method not allowed");
+        }
+    }
+    
+    private Reply action(StubAction action, String id, Map<String, Object> body) throws Exception {
+        StubCollection collection = action.getCollection() != null ? collection(action.getCollection()) : null;
+        
+        if (action.isCreate() && collection != null) {
+            String violation = action.getRules().validate(body);
+            return violation != null ? error(400, violation) : json(action.getStatus(), collection.create(body, action.getRules()));
+        }
+        
+        if (collection != null && !id.isEmpty()) {
+            Map<String, Object> fields = new LinkedHashMap<>(body);
+            fields.putAll(action.getSet());
+            Map<String, Object> record = collection.update(id, fields);
+            return record != null ? json(action.getStatus(), record) : error(404, "Not found: " + id);
+        }
+        
+        if (action.getBody() != null) {
+            Map<String, Object> context = new HashMap<>(body);
+            context.put("id", id);
+            context.put("uuid", UUID.randomUUID().toString());
+            return json(action.getStatus(), action.getBody().render(context));
+        }
+        return bytes(action.getStatus(), NO_BODY);
+    }
+    
+    private StubCollection collection(String name) {
+        return collections.computeIfAbsent(name, key -> new StubCollection(key, defaultCollectionSpec));
+    }
+    
+    private static Object page(List<Map<String, Object>> records, Map<String, String> query) {
+        if (!query.containsKey("page") && !query.containsKey("size")) {
+            int offset = Math.min(intParam(query, "offset", 0), records.size());
+            return records.subList(offset, Math.min(records.size(), offset + intParam(query, "limit", records.size())));
+        }
+        
+        int page = Math.max(1, intParam(query, "page", 1));
+        int size = Math.max(1, intParam(query, "size", 20));
+        int totalPages = Math.max(1, (records.size() + size - 1) / size);
+        int from = Math.min((page - 1) * size, records.size());
+        
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("data", records.subList(from, Math.min(records.size(), from + size)));
+        envelope.put("page", page);
+        envelope.put("size", size);
+        envelope.put("totalItems", records.size());
+        envelope.put("totalPages", totalPages);
+        envelope.put("hasNext", page < totalPages);
+        return envelope;
+    }
+    
+    private boolean isValidToken(String token) {
+        if (token == null) {
+            return false;
+        }
+        Long expiry = tokens.get(token);
+        return expiry != null && expiry > System.currentTimeMillis();
+    }
+    
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        return header != null && header.startsWith("Bearer ") ? header.substring(7).trim() : null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if (body.length == 0) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            Object parsed = objectMapper.readValue(body, Object.class);
+            return parsed instanceof Map ? (Map<String, Object>) parsed : new LinkedHashMap<>(Map.of("items", parsed));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed JSON body");
+        }
+    }
+    
+    static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+    
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> query = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+    
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer query parameter: " + name);
+        }
+    }
+    
+    private static Reply json(int status, Object body) throws IOException {
+        return new Reply(status, objectMapper.writeValueAsBytes(body));
+    }
+    
+    private static Reply bytes(int status, byte[] body) {
+        return new Reply(status, body);
+    }
+    
+    private static Reply error(int status, String message) {
+        String escaped = message == null ? "" : message.replace("\\", "\\\\").replace("\"", "\\\"");
+        return new Reply(status, ("{\"error\":\"" + escaped + "\",\"status\":" + status + "}").getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void send(HttpExchange exchange, Reply reply) {
+        statuses.computeIfAbsent(reply.status, status -> new AtomicLong()).incrementAndGet();
+        try {
+            if (reply.body.length > 0) {
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+            }
+            reply.headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+            exchange.sendResponseHeaders(reply.status, reply.body.length > 0 ? reply.body.length : -1);
+            if (reply.body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(reply.body);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Stub response write failed: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    /**
+     * Request count, throughput since start, responses by status and injected faults
+     */
+    public Map<String, Object> getStats() {
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        Map<String, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> byStatus.put(String.valueOf(status), count.get()));
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.get());
+        stats.put("requestsPerSecond", requests.get() * 1000.0 / elapsedMs);
+        stats.put("statuses", byStatus);
+        stats.put("injectedErrors", faults.getInjectedErrors());
+        stats.put("injectedRateLimits", faults.getInjectedRateLimits());
+        return stats;
+    }
+    
+    public void logStats() {
+        logger.info("Stub API Server - {}", getStats());
+    }
+    
+    private static final class Reply {
+        final int status;
+        final byte[] body;
+        final Map<String, String> headers = new HashMap<>(2);
+        
+        Reply(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+        
+        Reply header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+    }
+}
\ No newline at end of file
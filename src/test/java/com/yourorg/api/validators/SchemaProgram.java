@@ -0,0 +1,216 @@
+package com.yourorg.api.validators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A SchemaDefinition compiled once into flat arrays: one slot per field with its required flag, type opcode
+ * and nested sub-program, followed by the object-level custom rules. Running it collects every violation
+ */
+final class SchemaProgram {
+    static final byte TYPE_ANY = 0;
+    static final byte TYPE_STRING = 1;
+    static final byte TYPE_INTEGER = 2;
+    static final byte TYPE_LONG = 3;
+    static final byte TYPE_DOUBLE = 4;
+    static final byte TYPE_BOOLEAN = 5;
+    static final byte TYPE_ARRAY = 6;
+    static final byte TYPE_OBJECT = 7;
+    static final byte TYPE_UNSUPPORTED = 8;
+    
+    final String[] names;
+    final String[] segments;
+    final boolean[] required;
+    final byte[] types;
+    final String[] typeNames;
+    final SchemaProgram[] nested;
+    final String[] ruleNames;
+    final List<Predicate<JsonNode>> rules;
+    final Map<String, Integer> slots;
+    
+    private SchemaProgram(List<Slot> fields, Map<String, Predicate<JsonNode>> customRules) {
+        int size = fields.size();
+        names = new String[size];
+        segments = new String[size];
+        required = new boolean[size];
+        types = new byte[size];
+        typeNames = new String[size];
+        nested = new SchemaProgram[size];
+        slots = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            Slot slot = fields.get(i);
+            names[i] = slot.name;
+            segments[i] = "/" + slot.name.replace("~", "~0").replace("/", "~1");
+            required[i] = slot.required;
+            types[i] = opcode(slot.type);
+            typeNames[i] = slot.type != null ? slot.type.getSimpleName() : null;
+            nested[i] = slot.nested;
+            slots.put(slot.name, i);
+        }
+        ruleNames = customRules.keySet().toArray(new String[0]);
+        rules = new ArrayList<>(customRules.values());
+    }
+    
+    /**
+     * Fields in declaration order: required fields first, then typed and nested ones not already listed
+     */
+    static SchemaProgram compile(SchemaValidator.SchemaDefinition schema) {
+        Map<String, Slot> fields = new LinkedHashMap<>();
+        schema.getRequiredFields().forEach(name -> fields.computeIfAbsent(name, Slot::new).required = true);
+        schema.getFieldTypes().forEach((name, type) -> fields.computeIfAbsent(name, Slot::new).type = type);
+        schema.getNestedSchemas().forEach((name, nestedSchema) ->
+                fields.computeIfAbsent(name, Slot::new).nested = nestedSchema.program());
+        return new SchemaProgram(new ArrayList<>(fields.values()), schema.getCustomRules());
+    }
+    
+    private static byte opcode(Class<?> type) {
+        if (type == null) return TYPE_ANY;
+        if (type == String.class) return TYPE_STRING;
+        if (type == Integer.class) return TYPE_INTEGER;
+        if (type == Long.class) return TYPE_LONG;
+        if (type == Double.class) return TYPE_DOUBLE;
+        if (type == Boolean.class) return TYPE_BOOLEAN;
+        if (type == List.class) return TYPE_ARRAY;
+        if (type == Map.class) return TYPE_OBJECT;
+        return TYPE_UNSUPPORTED;
+    }
+    
+    /**
+     * Validate node, appending violations to out until it is full
+     * @param pointer JSON pointer of node; restored to its original length on return
+     */
+    void run(JsonNode node, StringBuilder pointer, Violations out) {
+        if (!node.isObject()) {
+            out.add(pointer.toString(), "Expected Object, got " + typeName(node));
+            return;
+        }
+        for (int i = 0; i < names.length && !out.isFull(); i++) {
+            JsonNode value = node.get(names[i]);
+            if (value == null) {
+                if (required[i]) {
+                    out.add(pointer + segments[i], "Missing required field: " + names[i]);
+                }
+                continue;
+            }
+            if (!matches(types[i], value)) {
+                out.add(pointer + segments[i], "Invalid type: expected " + typeNames[i] + ", got " + typeName(value));
+                continue;
+            }
+            if (nested[i] != null) {
+                int mark = pointer.length();
+                pointer.append(segments[i]);
+                nested[i].runValue(value, pointer, out);
+                pointer.setLength(mark);
+            }
+        }
+        for (int i = 0; i < ruleNames.length && !out.isFull(); i++) {
+            testRule(i, node, pointer, out);
+        }
+    }
+    
+    /**
+     * A nested field value: an object, or an array whose items are each validated
+     */
+    void runValue(JsonNode value, StringBuilder pointer, Violations out) {
+        if (!value.isArray()) {
+            run(value, pointer, out);
+            return;
+        }
+        int mark = pointer.length();
+        for (int index = 0; index < value.size() && !out.isFull(); index++) {
+            run(value.get(index), pointer.append('/').append(index), out);
+            pointer.setLength(mark);
+        }
+    }
+    
+    void testRule(int rule, JsonNode node, StringBuilder pointer, Violations out) {
+        try {
+            if (!rules.get(rule).test(node)) {
+                out.add(pointer.toString(), "Custom rule failed: " + ruleNames[rule]);
+            }
+        } catch (RuntimeException e) {
+            out.add(pointer.toString(), "Custom rule " + ruleNames[rule] + " threw " + e);
+        }
+    }
+    
+    static boolean matches(byte type, JsonNode value) {
+        switch (type) {
+            case TYPE_ANY:
+                return true;
+            case TYPE_STRING:
+                return value.isTextual();
+            case TYPE_INTEGER:
+                return value.isInt();
+            case TYPE_LONG:
+                return value.isLong() || value.isInt();
+            case TYPE_DOUBLE:
+                return value.isDouble() || value.isFloat() || value.isInt();
+            case TYPE_BOOLEAN:
+                return value.isBoolean();
+            case TYPE_ARRAY:
+                return value.isArray();
+            case TYPE_OBJECT:
+                return value.isObject();
+            default:
+                return false;
+        }
+    }
+    
+    static String typeName(JsonNode node) {
+        if (node.isTextual()) return "String";
+        if (node.isInt()) return "Integer";
+        if (node.isLong()) return "Long";
+        if (node.isDouble()) return "Double";
+        if (node.isBoolean()) return "Boolean";
+        if (node.isArray()) return "Array";
+        if (node.isObject()) return "Object";
+        if (node.isNull()) return "Null";
+        return "Unknown";
+    }
+    
+    private static final class Slot {
+        private final String name;
+        private boolean required;
+        private Class<?> type;
+        private SchemaProgram nested;
+        
+        private Slot(String name) {
+            this.name = name;
+        }
+    }
+    
+    /**
+     * Violation list bounded by a limit, so a badly drifted response does not produce millions of entries
+     */
+    static final class Violations {
+        private final List<SchemaViolation> list = new ArrayList<>();
+        private final int limit;
+        
+        Violations(int limit) {
+            this.limit = Math.max(1, limit);
+        }
+        
+        void add(String pointer, String message) {
+            if (list.size() < limit) {
+                list.add(new SchemaViolation(pointer, message));
+            }
+        }
+        
+        int size() {
+            return list.size();
+        }
+        
+        boolean isFull() {
+            return list.size() >= limit;
+        }
+        
+        List<SchemaViolation> toList() {
+            return list;
+        }
+    }
+}
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.yourorg.api.validators;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourorg.api.json.ParsedResponse;
+import com.yourorg.utils.ConfigLoader;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.function.Predicate;
 
@@ -14,113 +17,63 @@ import java.util.function.Predicate;
  */
 public class SchemaValidator {
     private static final Logger logger = LogManager.getLogger(SchemaValidator.class);
-    private final ObjectMapper objectMapper;
     
-    public SchemaValidator() {
-        this.objectMapper = new ObjectMapper();
-    }
+    private final int maxViolations = ConfigLoader.getInt("api.schema.max.violations", 100);
+    private final int parallelMinBytes = ConfigLoader.getInt("api.json.parallel.min.bytes", 1048576);
     
     /**
-     * Validate dynamic schema with flexible rules
+     * Validate dynamic schema with flexible rules; every violation is logged
      */
     public boolean validateDynamicSchema(Response response, SchemaDefinition schema) {
+        List<SchemaViolation> violations = validate(response, schema);
+        violations.forEach(violation -> logger.error("Schema violation at {}", violation));
+        return violations.isEmpty();
+    }
+    
+    /**
+     * All violations of the response body, up to api.schema.max.violations, each with its JSON pointer
+     */
+    public List<SchemaViolation> validate(Response response, SchemaDefinition schema) {
+        JsonNode jsonNode;
         try {
-            JsonNode jsonNode = objectMapper.readTree(response.getBody().asString());
-            return validateNode(jsonNode, schema);
+            jsonNode = ParsedResponse.of(response).tree();
         } catch (Exception e) {
             logger.error("Schema validation error: {}", e.getMessage());
-            return false;
+            return Collections.singletonList(new SchemaViolation("", "Unparseable body: " + e.getMessage()));
         }
+        return validate(jsonNode, schema);
     }
     
-    private boolean validateNode(JsonNode node, SchemaDefinition schema) {
-        // Validate required fields
-        for (String requiredField : schema.getRequiredFields()) {
-            if (!node.has(requiredField)) {
-                logger.error("Missing required field: {}", requiredField);
-                return false;
-            }
-        }
-        
-        // Validate field types
-        for (Map.Entry<String, Class<?>> entry : schema.getFieldTypes().entrySet()) {
-            String fieldName = entry.getKey();
-            Class<?> expectedType = entry.getValue();
-            
-            if (node.has(fieldName)) {
-                JsonNode fieldNode = node.get(fieldName);
-                if (!validateFieldType(fieldNode, expectedType)) {
-                    logger.error("Invalid type for field {}: expected {}, got {}", 
-                            fieldName, expectedType.getSimpleName(), getActualType(fieldNode));
-                    return false;
-                }
-            }
-        }
-        
-        // Validate custom rules
-        for (Map.Entry<String, Predicate<JsonNode>> entry : schema.getCustomRules().entrySet()) {
-            String ruleName = entry.getKey();
-            Predicate<JsonNode> rule = entry.getValue();
-            
-            if (!rule.test(node)) {
-                logger.error("Custom rule failed: {}", ruleName);
-                return false;
-            }
-        }
-        
-        // Validate nested objects
-        for (Map.Entry<String, SchemaDefinition> entry : schema.getNestedSchemas().entrySet()) {
-            String fieldName = entry.getKey();
-            SchemaDefinition nestedSchema = entry.getValue();
-            
-            if (node.has(fieldName)) {
-                JsonNode nestedNode = node.get(fieldName);
-                if (nestedNode.isArray()) {
-                    for (JsonNode arrayItem : nestedNode) {
-                        if (!validateNode(arrayItem, nestedSchema)) {
-                            return false;
-                        }
-                    }
-                } else {
-                    if (!validateNode(nestedNode, nestedSchema)) {
-                        return false;
-                    }
-                }
-            }
-        }
-        
-        return true;
+    public List<SchemaViolation> validate(JsonNode node, SchemaDefinition schema) {
+        SchemaProgram.Violations violations = new SchemaProgram.Violations(maxViolations);
+        schema.program().run(node, new StringBuilder(), violations);
+        return violations.toList();
     }
     
-    private boolean validateFieldType(JsonNode fieldNode, Class<?> expectedType) {
-        if (expectedType == String.class) {
-            return fieldNode.isTextual();
-        } else if (expectedType == Integer.class) {
-            return fieldNode.isInt();
-        } else if (expectedType == Long.class) {
-            return fieldNode.isLong() || fieldNode.isInt();
-        } else if (expectedType == Double.class) {
-            return fieldNode.isDouble() || fieldNode.isFloat() || fieldNode.isInt();
-        } else if (expectedType == Boolean.class) {
-            return fieldNode.isBoolean();
-        } else if (expectedType == List.class) {
-            return fieldNode.isArray();
-        } else if (expectedType == Map.class) {
-            return fieldNode.isObject();
-        }
-        return false;
+    /**
+     * Streaming variant of validate for very large array responses: the body is checked from the token stream
+     * without building a tree. Bodies of at least api.json.parallel.min.bytes validate array items across cores
+     * Differs from validate where custom rules are involved: root-level rules see only the root's scalar fields,
+     * and items of a nested schema with custom rules (e.g. userSchema's validEmail) are each read into a tree,
+     * so only rule-free item schemas get the full streaming speed-up
+     */
+    public List<SchemaViolation> validateStreaming(Response response, SchemaDefinition schema) {
+        byte[] body = ParsedResponse.of(response).bytes();
+        return validateStreaming(body, schema, maxViolations, body.length >= parallelMinBytes);
     }
     
-    private String getActualType(JsonNode node) {
-        if (node.isTextual()) return "String";
-        if (node.isInt()) return "Integer";
-        if (node.isLong()) return "Long";
-        if (node.isDouble()) return "Double";
-        if (node.isBoolean()) return "Boolean";
-        if (node.isArray()) return "Array";
-        if (node.isObject()) return "Object";
-        if (node.isNull()) return "Null";
-        return "Unknown";
+    /**
+     * @param maxViolations stop reading the body once this many violations are found
+     * @param parallel validate the items of arrays under the root in chunks across cores
+     */
+    public List<SchemaViolation> validateStreaming(byte[] body, SchemaDefinition schema, int maxViolations,
+                                                   boolean parallel) {
+        try {
+            return StreamingSchemaValidator.validate(body, schema.program(), maxViolations, parallel);
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Streaming schema validation error: {}", e.getMessage());
+            return Collections.singletonList(new SchemaViolation("", "Unparseable body: " + e.getMessage()));
+        }
     }
     
     /**
@@ -131,19 +84,22 @@ public class SchemaValidator {
     }
     
     /**
-     * Schema definition class with builder pattern
+     * Immutable schema definition built with the builder pattern
+     * build() compiles it into a validation program that is reused by every validation against it
      */
     public static class SchemaDefinition {
         private final Set<String> requiredFields;
         private final Map<String, Class<?>> fieldTypes;
         private final Map<String, Predicate<JsonNode>> customRules;
         private final Map<String, SchemaDefinition> nestedSchemas;
+        private final SchemaProgram program;
         
         private SchemaDefinition(Builder builder) {
-            this.requiredFields = new HashSet<>(builder.requiredFields);
-            this.fieldTypes = new HashMap<>(builder.fieldTypes);
-            this.customRules = new HashMap<>(builder.customRules);
-            this.nestedSchemas = new HashMap<>(builder.nestedSchemas);
+            this.requiredFields = Collections.unmodifiableSet(new LinkedHashSet<>(builder.requiredFields));
+            this.fieldTypes = Collections.unmodifiableMap(new LinkedHashMap<>(builder.fieldTypes));
+            this.customRules = Collections.unmodifiableMap(new LinkedHashMap<>(builder.customRules));
+            this.nestedSchemas = Collections.unmodifiableMap(new LinkedHashMap<>(builder.nestedSchemas));
+            this.program = SchemaProgram.compile(this);
         }
         
         public Set<String> getRequiredFields() { return requiredFields; }
@@ -151,11 +107,15 @@ public class SchemaValidator {
         public Map<String, Predicate<JsonNode>> getCustomRules() { return customRules; }
         public Map<String, SchemaDefinition> getNestedSchemas() { return nestedSchemas; }
         
+        SchemaProgram program() {
+            return program;
+        }
+        
         public static class Builder {
-            private final Set<String> requiredFields = new HashSet<>();
-            private final Map<String, Class<?>> fieldTypes = new HashMap<>();
-            private final Map<String, Predicate<JsonNode>> customRules = new HashMap<>();
-            private final Map<String, SchemaDefinition> nestedSchemas = new HashMap<>();
+            private final Set<String> requiredFields = new LinkedHashSet<>();
+            private final Map<String, Class<?>> fieldTypes = new LinkedHashMap<>();
+            private final Map<String, Predicate<JsonNode>> customRules = new LinkedHashMap<>();
+            private final Map<String, SchemaDefinition> nestedSchemas = new LinkedHashMap<>();
             
             public Builder requireField(String fieldName) {
                 requiredFields.add(fieldName);
@@ -184,11 +144,26 @@ public class SchemaValidator {
     }
     
     /**
-     * Common schema patterns
+     * Common schema patterns, built and compiled once
      */
     public static class CommonSchemas {
+        private static final SchemaDefinition USER = buildUserSchema();
+        private static final SchemaDefinition PAGINATED_RESPONSE = buildPaginatedResponseSchema();
+        private static final SchemaDefinition ERROR_RESPONSE = buildErrorResponseSchema();
         
         public static SchemaDefinition userSchema() {
+            return USER;
+        }
+        
+        public static SchemaDefinition paginatedResponseSchema() {
+            return PAGINATED_RESPONSE;
+        }
+        
+        public static SchemaDefinition errorResponseSchema() {
+            return ERROR_RESPONSE;
+        }
+        
+        private static SchemaDefinition buildUserSchema() {
             return schema()
                     .requireField("id")
                     .requireField("username")
@@ -207,7 +182,7 @@ public class SchemaValidator {
                     .build();
         }
         
-        public static SchemaDefinition paginatedResponseSchema() {
+        private static SchemaDefinition buildPaginatedResponseSchema() {
             return schema()
                     .requireField("data")
                     .requireField("page")
@@ -227,7 +202,7 @@ public class SchemaValidator {
                     .build();
         }
         
-        public static SchemaDefinition errorResponseSchema() {
+        private static SchemaDefinition buildErrorResponseSchema() {
             return schema()
                     .requireField("error")
                     .requireField("message")
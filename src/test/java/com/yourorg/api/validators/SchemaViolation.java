@@ -0,0 +1,22 @@
+package com.yourorg.api.validators;
+
+/**
+ * One schema violation, located by JSON pointer ("" is the document root, "/data/3/email" a nested field)
+ */
+public class SchemaViolation {
+    private final String pointer;
+    private final String message;
+    
+    public SchemaViolation(String pointer, String message) {
+        this.pointer = pointer;
+        this.message = message;
+    }
+    
+    public String getPointer() { return pointer; }
+    public String getMessage() { return message; }
+    
+    @Override
+    public String toString() {
+        return (pointer.isEmpty() ? "/" : pointer) + ": " + message;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.yourorg.api.validators;
 
+import com.yourorg.api.json.ParsedResponse;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,8 +15,13 @@ public class StatusCodeValidator {
      * Validate and explain HTTP status codes
      */
     public static void validateAndExplain(Response response, int expectedStatus) throws Exception {
-        int actualStatus = response.getStatusCode();
-        
+        validateAndExplain(response.getStatusCode(), expectedStatus);
+    }
+    
+    /**
+     * Validate a raw status code, for responses that are not RestAssured responses (e.g. async client)
+     */
+    public static void validateAndExplain(int actualStatus, int expectedStatus) throws Exception {
         if (actualStatus != expectedStatus) {
             String explanation = getStatusCodeExplanation(actualStatus);
             String expectedExplanation = getStatusCodeExplanation(expectedStatus);
@@ -101,7 +107,7 @@ public class StatusCodeValidator {
             logger.warn("Location header missing in creation response");
         }
         
-        String resourceId = response.jsonPath().getString("id");
+        String resourceId = ParsedResponse.of(response).jsonPath().getString("id");
         if (resourceId == null) {
             logger.warn("Resource ID missing in creation response");
         }
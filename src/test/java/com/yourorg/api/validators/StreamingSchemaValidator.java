@@ -0,0 +1,288 @@
+package com.yourorg.api.validators;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yourorg.utils.JsonCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a SchemaProgram over the token stream instead of a JsonNode tree, so a 100k-item data array is never
+ * materialized: each item is checked as its tokens go by, and only items whose schema has custom rules are
+ * read into a (single item) tree for them. Stops reading once the violation limit is reached
+ * Rules of the root object see its scalar fields only; arrays and objects under the root are streamed
+ */
+final class StreamingSchemaValidator {
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
+    private static final JsonFactory jsonFactory = objectMapper.getFactory();
+    private static final int CHUNK_ITEMS = 1024;
+    
+    private final byte[] body;
+    private final int limit;
+    private final boolean parallel;
+    
+    private StreamingSchemaValidator(byte[] body, int limit, boolean parallel) {
+        this.body = body;
+        this.limit = limit;
+        this.parallel = parallel;
+    }
+    
+    /**
+     * @param parallel validate the items of arrays directly under the root in chunks across cores
+     */
+    static List<SchemaViolation> validate(byte[] body, SchemaProgram program, int limit, boolean parallel)
+            throws IOException {
+        return new StreamingSchemaValidator(body, limit, parallel).validateRoot(program);
+    }
+    
+    private List<SchemaViolation> validateRoot(SchemaProgram program) throws IOException {
+        SchemaProgram.Violations out = new SchemaProgram.Violations(limit);
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                out.add("", "Expected Object, got empty body");
+            } else if (token != JsonToken.START_OBJECT) {
+                out.add("", "Expected Object, got " + typeName(token, parser));
+            } else {
+                validateRootObject(parser, program, out);
+            }
+        }
+        return out.toList();
+    }
+    
+    private void validateRootObject(JsonParser parser, SchemaProgram program, SchemaProgram.Violations out)
+            throws IOException {
+        ObjectNode scalars = program.rules.isEmpty() ? null : objectMapper.createObjectNode();
+        boolean[] seen = new boolean[program.names.length];
+        StringBuilder pointer = new StringBuilder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            Integer slot = program.slots.get(name);
+            if (slot != null) {
+                seen[slot] = true;
+                checkField(parser, token, program, slot, pointer, out, parallel);
+                if (out.isFull()) {
+                    return;
+                }
+            } else {
+                parser.skipChildren();
+            }
+            // After the type check: reading a value as a tree clears the parser's current token
+            if (scalars != null && token.isScalarValue()) {
+                scalars.set(name, parser.readValueAsTree());
+            }
+        }
+        reportMissing(program, seen, pointer, out);
+        for (int i = 0; i < program.ruleNames.length && scalars != null && !out.isFull(); i++) {
+            program.testRule(i, scalars, pointer, out);
+        }
+    }
+    
+    /**
+     * One object value: checked field by field from the tokens, or read as a tree when its schema has rules
+     */
+    private void validateObject(JsonParser parser, JsonToken token, SchemaProgram program, StringBuilder pointer,
+                                SchemaProgram.Violations out) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            out.add(pointer.toString(), "Expected Object, got " + typeName(token, parser));
+            parser.skipChildren();
+            return;
+        }
+        if (!program.rules.isEmpty()) {
+            JsonNode node = parser.readValueAsTree();
+            program.run(node, pointer, out);
+            return;
+        }
+        boolean[] seen = new boolean[program.names.length];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            Integer slot = program.slots.get(name);
+            if (slot == null) {
+                parser.skipChildren();
+                continue;
+            }
+            seen[slot] = true;
+            checkField(parser, valueToken, program, slot, pointer, out, false);
+            if (out.isFull()) {
+                return;
+            }
+        }
+        reportMissing(program, seen, pointer, out);
+    }
+    
+    private void checkField(JsonParser parser, JsonToken token, SchemaProgram program, int slot,
+                            StringBuilder pointer, SchemaProgram.Violations out, boolean parallelItems)
+            throws IOException {
+        if (!matches(program.types[slot], token, parser)) {
+            out.add(pointer + program.segments[slot],
+                    "Invalid type: expected " + program.typeNames[slot] + ", got " + typeName(token, parser));
+            parser.skipChildren();
+            return;
+        }
+        SchemaProgram nested = program.nested[slot];
+        if (nested == null) {
+            parser.skipChildren();
+            return;
+        }
+        int mark = pointer.length();
+        pointer.append(program.segments[slot]);
+        if (token != JsonToken.START_ARRAY) {
+            validateObject(parser, token, nested, pointer, out);
+        } else if (parallelItems) {
+            validateItemsInParallel(parser, nested, pointer.toString(), out);
+        } else {
+            validateItems(parser, nested, pointer, out);
+        }
+        pointer.setLength(mark);
+    }
+    
+    private void validateItems(JsonParser parser, SchemaProgram program, StringBuilder pointer,
+                               SchemaProgram.Violations out) throws IOException {
+        int mark = pointer.length();
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && !out.isFull()) {
+            validateObject(parser, token, program, pointer.append('/').append(index++), out);
+            pointer.setLength(mark);
+        }
+    }
+    
+    /**
+     * Index item bounds in one structural pass, then validate chunks of items on separate parsers in parallel;
+     * chunk results are merged in item order
+     */
+    private void validateItemsInParallel(JsonParser parser, SchemaProgram program, String pointer,
+                                         SchemaProgram.Violations out) throws IOException {
+        List<int[]> chunks = new ArrayList<>();
+        int[] bounds = new int[CHUNK_ITEMS * 2];
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            bounds[count++] = (int) parser.getTokenLocation().getByteOffset();
+            parser.skipChildren();
+            bounds[count++] = (int) parser.getCurrentLocation().getByteOffset();
+            if (count == bounds.length) {
+                chunks.add(bounds);
+                bounds = new int[CHUNK_ITEMS * 2];
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            chunks.add(Arrays.copyOf(bounds, count));
+        }
+        AtomicIntegerArray found = new AtomicIntegerArray(chunks.size());
+        List<List<SchemaViolation>> results = IntStream.range(0, chunks.size()).parallel()
+                .mapToObj(chunk -> validateChunk(chunks.get(chunk), chunk, program, pointer, out.size(), found))
+                .collect(Collectors.toList());
+        for (List<SchemaViolation> result : results) {
+            result.forEach(violation -> out.add(violation.getPointer(), violation.getMessage()));
+        }
+    }
+    
+    /**
+     * A chunk stops once it and the chunks before it have found the limit, so the merged result is the same
+     * first violations a sequential pass would report
+     */
+    private List<SchemaViolation> validateChunk(int[] bounds, int chunk, SchemaProgram program, String pointer,
+                                                int foundBefore, AtomicIntegerArray found) {
+        SchemaProgram.Violations out = new SchemaProgram.Violations(limit);
+        StringBuilder itemPointer = new StringBuilder(pointer);
+        int firstIndex = chunk * CHUNK_ITEMS;
+        for (int i = 0; i < bounds.length && foundBefore + foundUpTo(found, chunk) < limit; i += 2) {
+            try (JsonParser parser = jsonFactory.createParser(body, bounds[i], bounds[i + 1] - bounds[i])) {
+                itemPointer.append('/').append(firstIndex + i / 2);
+                validateObject(parser, parser.nextToken(), program, itemPointer, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            itemPointer.setLength(pointer.length());
+            found.set(chunk, out.size());
+        }
+        return out.toList();
+    }
+    
+    private static int foundUpTo(AtomicIntegerArray found, int chunk) {
+        int total = 0;
+        for (int i = 0; i <= chunk; i++) {
+            total += found.get(i);
+        }
+        return total;
+    }
+    
+    private static void reportMissing(SchemaProgram program, boolean[] seen, StringBuilder pointer,
+                                      SchemaProgram.Violations out) {
+        for (int i = 0; i < seen.length && !out.isFull(); i++) {
+            if (!seen[i] && program.required[i]) {
+                out.add(pointer + program.segments[i], "Missing required field: " + program.names[i]);
+            }
+        }
+    }
+    
+    /**
+     * Token-level equivalent of SchemaProgram.matches on a default-configured tree
+     */
+    private static boolean matches(byte type, JsonToken token, JsonParser parser) throws IOException {
+        switch (type) {
+            case SchemaProgram.TYPE_ANY:
+                return true;
+            case SchemaProgram.TYPE_STRING:
+                return token == JsonToken.VALUE_STRING;
+            case SchemaProgram.TYPE_INTEGER:
+                return token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT;
+            case SchemaProgram.TYPE_LONG:
+                return token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER;
+            case SchemaProgram.TYPE_DOUBLE:
+                return token == JsonToken.VALUE_NUMBER_FLOAT
+                        || (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT);
+            case SchemaProgram.TYPE_BOOLEAN:
+                return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+            case SchemaProgram.TYPE_ARRAY:
+                return token == JsonToken.START_ARRAY;
+            case SchemaProgram.TYPE_OBJECT:
+                return token == JsonToken.START_OBJECT;
+            default:
+                return false;
+        }
+    }
+    
+    private static String typeName(JsonToken token, JsonParser parser) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return "String";
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return "Integer";
+                    case LONG:
+                        return "Long";
+                    default:
+                        return "Unknown";
+                }
+            case VALUE_NUMBER_FLOAT:
+                return "Double";
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return "Boolean";
+            case START_ARRAY:
+                return "Array";
+            case START_OBJECT:
+                return "Object";
+            case VALUE_NULL:
+                return "Null";
+            default:
+                return "Unknown";
+        }
+    }
+}
\ No newline at end of file
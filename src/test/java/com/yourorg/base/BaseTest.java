@@ -13,10 +13,13 @@ public class BaseTest {
     protected WebDriver driver;
 
     @BeforeMethod
-    public void setup() {
+    @Parameters({BrowserMatrix.MATRIX_PARAMETER})
+    public void setup(@Optional String matrixBrowser) {
         logger.info("Setting up test");
         try {
-            driver = WebDriverFactory.createDriver();
+            driver = matrixBrowser != null
+                    ? WebDriverFactory.createDriver(matrixBrowser)
+                    : WebDriverFactory.createDriver();
             logger.info("Driver created successfully");
         } catch (Exception e) {
             logger.error("Failed to create driver: {}", e.getMessage());
@@ -0,0 +1,100 @@
+package com.yourorg.base;
+
+import com.yourorg.driver.WebDriverManager;
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.EnvReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.xml.XmlTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-browser matrix configuration with an independent session pool per browser
+ * A slow browser only throttles its own sessions, never the other browsers in the run
+ */
+public class BrowserMatrix {
+    private static final Logger logger = LogManager.getLogger(BrowserMatrix.class);
+    public static final String MATRIX_PARAMETER = "matrixBrowser";
+    private static final Map<String, Semaphore> sessionPools = new ConcurrentHashMap<>();
+    
+    private BrowserMatrix() {}
+    
+    /**
+     * Browsers declared for this run, e.g. BROWSER_MATRIX=chrome,firefox,edge
+     */
+    public static List<String> getBrowsers() {
+        String matrix = EnvReader.get("BROWSER_MATRIX", ConfigLoader.get("browser.matrix", ""));
+        return Arrays.stream(matrix.split(","))
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .filter(browser -> !browser.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+    
+    public static boolean isEnabled() {
+        return !getBrowsers().isEmpty();
+    }
+    
+    public static int getMaxSessions(String browser) {
+        int defaultSessions = ConfigLoader.getInt("browser.matrix.max.sessions", 2);
+        return Math.max(1, ConfigLoader.getInt("browser.matrix." + browser + ".max.sessions", defaultSessions));
+    }
+    
+    public static int getTotalSessions() {
+        return getBrowsers().stream()
+                .mapToInt(BrowserMatrix::getMaxSessions)
+                .sum();
+    }
+    
+    /**
+     * Block until the browser's pool has a free session slot
+     */
+    public static void acquireSession(String browser) {
+        Semaphore pool = sessionPools.computeIfAbsent(browser,
+                name -> new Semaphore(getMaxSessions(name), true));
+        try {
+            pool.acquire();
+            logger.debug("Session slot acquired for {} - Available: {}", browser, pool.availablePermits());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a " + browser + " session", e);
+        }
+    }
+    
+    public static void releaseSession(String browser) {
+        Semaphore pool = sessionPools.get(browser);
+        if (pool != null) {
+            pool.release();
+            logger.debug("Session slot released for {} - Available: {}", browser, pool.availablePermits());
+        }
+    }
+    
+    /**
+     * Resolve the browser dimension of a test result, or null for non-browser tests
+     */
+    public static String resolveBrowser(ITestResult result) {
+        XmlTest xmlTest = result.getTestContext().getCurrentXmlTest();
+        if (xmlTest == null) {
+            return null;
+        }
+        
+        String matrixBrowser = xmlTest.getParameter(MATRIX_PARAMETER);
+        if (matrixBrowser != null) {
+            return matrixBrowser;
+        }
+        
+        // UI tests declare a browser parameter; the effective browser follows WebDriverManager
+        if (xmlTest.getParameter("browser") != null) {
+            return WebDriverManager.defaultBrowserName().toLowerCase();
+        }
+        return null;
+    }
+}
\ No newline at end of file
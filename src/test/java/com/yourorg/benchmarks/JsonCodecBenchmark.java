@@ -0,0 +1,114 @@
+package com.yourorg.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.yourorg.models.User;
+import com.yourorg.utils.JsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test data and model (de)serialization: a new ObjectMapper per call over a String, as the data providers did,
+ * against the shared codec's cached readers over bytes, and model writes with and without Blackbird
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+    @Param({"10", "1000"})
+    private int records;
+    
+    private byte[] userListJson;
+    private List<User> users;
+    private ObjectReader reflectiveUserReader;
+    private ObjectWriter reflectiveUserWriter;
+    private ObjectReader acceleratedUserReader;
+    private ObjectWriter acceleratedUserWriter;
+    
+    @Setup
+    public void setup() throws Exception {
+        users = new ArrayList<>(records);
+        for (int i = 1; i <= records; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "Secret" + i + "!", "First" + i, "Last" + i);
+            user.setId("user_" + i);
+            user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            user.setPermissions(List.of("read", "write"));
+            users.add(user);
+        }
+        ObjectMapper reflective = JsonCodec.newMapper(false);
+        ObjectMapper accelerated = JsonCodec.newMapper(true);
+        reflectiveUserReader = reflective.readerFor(reflective.getTypeFactory().constructCollectionType(List.class, User.class));
+        reflectiveUserWriter = reflective.writerFor(reflective.getTypeFactory().constructCollectionType(List.class, User.class));
+        acceleratedUserReader = accelerated.readerFor(accelerated.getTypeFactory().constructCollectionType(List.class, User.class));
+        acceleratedUserWriter = accelerated.writerFor(accelerated.getTypeFactory().constructCollectionType(List.class, User.class));
+        userListJson = reflectiveUserWriter.writeValueAsBytes(users);
+    }
+    
+    /**
+     * The previous data provider path: decode to String, new mapper and TypeReference on every call
+     */
+    @Benchmark
+    public Object perCallMapperMapList() throws Exception {
+        String json = new String(userListJson, StandardCharsets.UTF_8);
+        return new ObjectMapper().readValue(json, new TypeReference<List<Map<String, Object>>>() {});
+    }
+    
+    @Benchmark
+    public Object codecMapList() throws Exception {
+        return JsonCodec.readMapList(userListJson);
+    }
+    
+    @Benchmark
+    public Object readUsersReflective() throws Exception {
+        return reflectiveUserReader.readValue(userListJson);
+    }
+    
+    @Benchmark
+    public Object readUsersBlackbird() throws Exception {
+        return acceleratedUserReader.readValue(userListJson);
+    }
+    
+    @Benchmark
+    public byte[] writeUsersReflective() throws Exception {
+        return reflectiveUserWriter.writeValueAsBytes(users);
+    }
+    
+    @Benchmark
+    public byte[] writeUsersBlackbird() throws Exception {
+        return acceleratedUserWriter.writeValueAsBytes(users);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JsonCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
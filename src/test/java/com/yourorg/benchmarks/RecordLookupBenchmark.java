@@ -0,0 +1,105 @@
+package com.yourorg.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.yourorg.api.json.JsonRecordScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findRecordById on multi-megabyte user arrays: JsonPath filter over the whole body vs. streaming early exit
+ * The target sits three quarters of the way through the array; run with -prof gc to compare allocation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordLookupBenchmark {
+    @Param({"1000", "20000"})
+    private int records;
+    
+    private byte[] body;
+    private String targetId;
+    private JsonRecordScanner scanner;
+    
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Map<String, Object>> users = new ArrayList<>(records);
+        for (int i = 1; i <= records; i++) {
+            Map<String, Object> address = new LinkedHashMap<>();
+            address.put("street", i + " Benchmark Street");
+            address.put("city", "City" + (i % 100));
+            address.put("zipCode", String.format("%05d", i % 100000));
+            
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("username", "user" + i);
+            user.put("email", "user" + i + "@example.com");
+            user.put("firstName", "First" + i);
+            user.put("lastName", "Last" + i);
+            user.put("address", address);
+            user.put("tags", List.of("tag" + (i % 7), "tag" + (i % 11)));
+            user.put("isActive", i % 5 != 0);
+            // id last, so the scanner has to skip every other field of each record first
+            user.put("id", "user_" + i);
+            users.add(user);
+        }
+        body = objectMapper.writeValueAsBytes(users);
+        targetId = "user_" + (records * 3 / 4);
+        scanner = new JsonRecordScanner(objectMapper);
+    }
+    
+    /**
+     * The previous ResponseManager path: body as String, then a concatenated JsonPath filter over every record
+     */
+    @Benchmark
+    public Object jsonPathFilter() {
+        String json = new String(body, StandardCharsets.UTF_8);
+        List<Map<String, Object>> matches = JsonPath.read(json, "$[?(@.id == '" + targetId + "')]");
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+    
+    @Benchmark
+    public Object streamingLookup() throws Exception {
+        return scanner.findFirst(body, "id", targetId);
+    }
+    
+    /**
+     * Streaming lookup including parsing the matched record, as a caller reading a field would
+     */
+    @Benchmark
+    public Object streamingLookupAndRead() throws Exception {
+        return scanner.findFirst(body, "id", targetId).get("email");
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RecordLookupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
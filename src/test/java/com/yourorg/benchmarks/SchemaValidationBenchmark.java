@@ -0,0 +1,188 @@
+package com.yourorg.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yourorg.api.validators.SchemaValidator;
+import com.yourorg.api.validators.SchemaValidator.SchemaDefinition;
+import com.yourorg.utils.JsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Validation throughput for a paginated response whose data array holds userSchema items: on a pre-parsed tree,
+ * the previous map-walking validator (first error only) against the compiled program collecting every violation;
+ * from raw bytes, parse-then-validate against streaming validation. Streaming reads each userSchema item into a
+ * tree for its validEmail rule, so the ruleFree cases repeat it with the rule dropped from the item schema.
+ * Run with -prof gc to compare allocation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+    @Param({"1000", "50000"})
+    private int records;
+    
+    private byte[] body;
+    private JsonNode page;
+    private SchemaDefinition schema;
+    private SchemaDefinition ruleFreeSchema;
+    private SchemaValidator validator;
+    
+    @Setup
+    public void setup() throws Exception {
+        List<Map<String, Object>> users = new ArrayList<>(records);
+        for (int i = 1; i <= records; i++) {
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", "user_" + i);
+            user.put("username", "user" + i);
+            user.put("email", "user" + i + "@example.com");
+            user.put("firstName", "First" + i);
+            user.put("lastName", "Last" + i);
+            user.put("isActive", i % 5 != 0);
+            users.add(user);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("data", users);
+        body.put("page", 1);
+        body.put("totalPages", 1);
+        body.put("hasNext", false);
+        this.body = JsonCodec.toBytes(body);
+        page = JsonCodec.mapper().readTree(this.body);
+        
+        SchemaDefinition paginated = SchemaValidator.CommonSchemas.paginatedResponseSchema();
+        schema = withItems(paginated, SchemaValidator.CommonSchemas.userSchema());
+        ruleFreeSchema = withItems(paginated, withoutRules(SchemaValidator.CommonSchemas.userSchema()));
+        validator = new SchemaValidator();
+    }
+    
+    private static SchemaDefinition withItems(SchemaDefinition paginated, SchemaDefinition items) {
+        SchemaDefinition.Builder builder = SchemaValidator.schema();
+        paginated.getRequiredFields().forEach(builder::requireField);
+        paginated.getFieldTypes().forEach(builder::fieldType);
+        paginated.getCustomRules().forEach(builder::customRule);
+        return builder.nestedSchema("data", items).build();
+    }
+    
+    private static SchemaDefinition withoutRules(SchemaDefinition schema) {
+        SchemaDefinition.Builder builder = SchemaValidator.schema();
+        schema.getRequiredFields().forEach(builder::requireField);
+        schema.getFieldTypes().forEach(builder::fieldType);
+        schema.getNestedSchemas().forEach(builder::nestedSchema);
+        return builder.build();
+    }
+    
+    @Benchmark
+    public boolean interpretedFirstError() {
+        return interpret(page, schema);
+    }
+    
+    @Benchmark
+    public int compiledAllViolations() {
+        return validator.validate(page, schema).size();
+    }
+    
+    @Benchmark
+    public int treeFromBytes() throws Exception {
+        return validator.validate(JsonCodec.mapper().readTree(body), schema).size();
+    }
+    
+    @Benchmark
+    public int streamingFromBytes() {
+        return validator.validateStreaming(body, schema, 100, false).size();
+    }
+    
+    @Benchmark
+    public int streamingFromBytesParallel() {
+        return validator.validateStreaming(body, schema, 100, true).size();
+    }
+    
+    @Benchmark
+    public int treeFromBytesRuleFree() throws Exception {
+        return validator.validate(JsonCodec.mapper().readTree(body), ruleFreeSchema).size();
+    }
+    
+    @Benchmark
+    public int streamingFromBytesRuleFree() {
+        return validator.validateStreaming(body, ruleFreeSchema, 100, false).size();
+    }
+    
+    @Benchmark
+    public int streamingFromBytesRuleFreeParallel() {
+        return validator.validateStreaming(body, ruleFreeSchema, 100, true).size();
+    }
+    
+    /**
+     * The previous validateNode: required, typed, rule and nested maps walked per node with has() then get()
+     */
+    private static boolean interpret(JsonNode node, SchemaDefinition schema) {
+        for (String requiredField : schema.getRequiredFields()) {
+            if (!node.has(requiredField)) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Class<?>> entry : schema.getFieldTypes().entrySet()) {
+            if (node.has(entry.getKey()) && !matches(node.get(entry.getKey()), entry.getValue())) {
+                return false;
+            }
+        }
+        for (Predicate<JsonNode> rule : schema.getCustomRules().values()) {
+            if (!rule.test(node)) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, SchemaDefinition> entry : schema.getNestedSchemas().entrySet()) {
+            if (node.has(entry.getKey())) {
+                JsonNode nestedNode = node.get(entry.getKey());
+                if (nestedNode.isArray()) {
+                    for (JsonNode item : nestedNode) {
+                        if (!interpret(item, entry.getValue())) {
+                            return false;
+                        }
+                    }
+                } else if (!interpret(nestedNode, entry.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private static boolean matches(JsonNode fieldNode, Class<?> expectedType) {
+        if (expectedType == String.class) return fieldNode.isTextual();
+        if (expectedType == Integer.class) return fieldNode.isInt();
+        if (expectedType == Boolean.class) return fieldNode.isBoolean();
+        if (expectedType == List.class) return fieldNode.isArray();
+        return false;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SchemaValidationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.yourorg.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the test method body repeatedly under concurrent callers and asserts on the latency distribution
+ * Executed by PerfTestListener, e.g. {@code @PerfTest(iterations = 500, concurrency = 20, warmup = 50, p95Ms = 300)}
+ * Latency SLAs of -1 are not checked
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerfTest {
+    int iterations() default 100;
+    
+    int concurrency() default 1;
+    
+    /**
+     * Invocations run before measuring, with the same concurrency, to warm connections and JIT
+     */
+    int warmup() default 0;
+    
+    long p50Ms() default -1;
+    
+    long p90Ms() default -1;
+    
+    long p95Ms() default -1;
+    
+    long p99Ms() default -1;
+    
+    long maxMs() default -1;
+    
+    /**
+     * Fraction (0-1) of measured invocations allowed to throw
+     */
+    double maxErrorRate() default 0.0;
+    
+    long timeoutSeconds() default 300;
+}
\ No newline at end of file
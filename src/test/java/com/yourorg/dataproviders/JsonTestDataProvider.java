@@ -1,8 +1,7 @@
 package com.yourorg.dataproviders;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourorg.abstracts.AbstractTestDataProvider;
+import com.yourorg.utils.JsonCodec;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -20,12 +19,10 @@ import java.util.stream.Collectors;
  */
 public class JsonTestDataProvider extends AbstractTestDataProvider {
     private static final Logger logger = LogManager.getLogger(JsonTestDataProvider.class);
-    private final ObjectMapper objectMapper;
     private final String dataDirectory;
     
     public JsonTestDataProvider(String dataDirectory) {
         this.dataDirectory = dataDirectory;
-        this.objectMapper = new ObjectMapper();
         logger.info("JsonTestDataProvider initialized with directory: {}", dataDirectory);
     }
     
@@ -46,9 +43,7 @@ public class JsonTestDataProvider extends AbstractTestDataProvider {
                 return new HashMap<>();
             }
             
-            String jsonContent = Files.readString(filePath);
-            Map<String, Object> data = objectMapper.readValue(jsonContent, 
-                    new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> data = JsonCodec.readMap(filePath);
             
             // Cache the data
             cacheData(testName, data);
@@ -73,9 +68,7 @@ public class JsonTestDataProvider extends AbstractTestDataProvider {
                 return new ArrayList<>();
             }
             
-            String jsonContent = Files.readString(filePath);
-            List<Map<String, Object>> data = objectMapper.readValue(jsonContent, 
-                    new TypeReference<List<Map<String, Object>>>() {});
+            List<Map<String, Object>> data = JsonCodec.readMapList(filePath);
             
             logger.info("Bulk test data loaded for: {} ({} records)", dataSet, data.size());
             return data;
@@ -95,9 +88,7 @@ public class JsonTestDataProvider extends AbstractTestDataProvider {
             // Create directory if it doesn't exist
             Files.createDirectories(filePath.getParent());
             
-            String jsonContent = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(data);
-            Files.writeString(filePath, jsonContent);
+            Files.writeString(filePath, JsonCodec.toPrettyJson(data));
             
             // Update cache
             cacheData(testName, data);
@@ -145,7 +136,7 @@ public class JsonTestDataProvider extends AbstractTestDataProvider {
      */
     public Map<String, Object> parseComplexJson(String jsonContent) {
         try {
-            return objectMapper.readValue(jsonContent, new TypeReference<Map<String, Object>>() {});
+            return JsonCodec.readMap(jsonContent);
         } catch (Exception e) {
             logger.error("Failed to parse complex JSON: {}", e.getMessage());
             return new HashMap<>();
@@ -0,0 +1,236 @@
+package com.yourorg.driver;
+
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.EnvReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Pins each local browser process tree to a dedicated CPU slice on Linux
+ * Framework threads are moved off the browser cores so timing samples are not skewed by noisy neighbours
+ */
+public class BrowserCpuIsolation {
+    private static final Logger logger = LogManager.getLogger(BrowserCpuIsolation.class);
+    private static final ConcurrentLinkedQueue<CpuSlice> freeSlices = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger sessionCounter = new AtomicInteger();
+    private static volatile boolean initialized;
+    
+    private BrowserCpuIsolation() {}
+    
+    /**
+     * browser.cpu.isolation=true (or BROWSER_CPU_ISOLATION=true) enables pinning on Linux
+     */
+    public static boolean isEnabled() {
+        return EnvReader.getBoolean("BROWSER_CPU_ISOLATION", ConfigLoader.getBoolean("browser.cpu.isolation", false))
+                && BrowserProcesses.isLinux();
+    }
+    
+    /**
+     * Pin a freshly launched session to the next free CPU slice
+     * Returns null, with the slice freed again, when none is free or the session's processes could not be pinned
+     */
+    public static CpuSlice pinSession(List<Long> roots) {
+        initialize();
+        
+        List<Long> pids = BrowserProcesses.processTree(roots);
+        if (pids.isEmpty()) {
+            logger.warn("No live processes for browser session. Running unpinned");
+            return null;
+        }
+        
+        CpuSlice slice = freeSlices.poll();
+        if (slice == null) {
+            logger.warn("No free CPU slice for browser session. Running unpinned - increase browser.cpu.set");
+            return null;
+        }
+        
+        slice.cgroup = createSessionCgroup(slice);
+        boolean pinned = slice.cgroup != null
+                ? moveToCgroup(slice.cgroup, pids)
+                : pids.stream().allMatch(pid -> runTaskset(slice.cpuList(), pid));
+        
+        logger.info("Browser session pinned to CPUs {} via {} - Processes: {}, Success: {}",
+                slice.cpuList(), slice.cgroup != null ? "cgroup v2" : "taskset", pids.size(), pinned);
+        if (!pinned) {
+            releaseSession(slice);
+            return null;
+        }
+        return slice;
+    }
+    
+    public static void releaseSession(CpuSlice slice) {
+        if (slice == null) {
+            return;
+        }
+        if (slice.cgroup != null) {
+            removeCgroup(slice.cgroup);
+            slice.cgroup = null;
+        }
+        freeSlices.offer(slice);
+    }
+    
+    private static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        
+        int availableCpus = Runtime.getRuntime().availableProcessors();
+        List<Integer> browserCpus = parseCpuList(ConfigLoader.get("browser.cpu.set", ""));
+        if (browserCpus.isEmpty()) {
+            // Default: keep CPU 0 for the framework, give the rest to browsers
+            browserCpus = IntStream.range(Math.min(1, availableCpus - 1), availableCpus)
+                    .boxed()
+                    .collect(Collectors.toList());
+        }
+        
+        int perSession = Math.max(1, ConfigLoader.getInt("browser.cpu.per.session", 1));
+        for (int i = 0; i + perSession <= browserCpus.size(); i += perSession) {
+            freeSlices.offer(new CpuSlice(browserCpus.subList(i, i + perSession)));
+        }
+        
+        List<Integer> frameworkCpus = new ArrayList<>();
+        for (int cpu = 0; cpu < availableCpus; cpu++) {
+            if (!browserCpus.contains(cpu)) {
+                frameworkCpus.add(cpu);
+            }
+        }
+        
+        // Keep every JVM thread (TestNG workers, HTTP clients, GC) off the browser cores
+        if (!frameworkCpus.isEmpty()) {
+            String frameworkCpuList = frameworkCpus.stream().map(String::valueOf).collect(Collectors.joining(","));
+            runTaskset(frameworkCpuList, ProcessHandle.current().pid());
+            logger.info("Framework threads pinned to CPUs {}", frameworkCpuList);
+        } else {
+            logger.warn("browser.cpu.set covers every CPU - framework threads will share browser cores");
+        }
+        
+        logger.info("CPU isolation initialized - Browser CPUs: {}, Slices: {} x {} CPU(s)",
+                browserCpus, freeSlices.size(), perSession);
+        initialized = true;
+    }
+    
+    /**
+     * Parse Linux cpu-list syntax such as "2-5,8"
+     */
+    static List<Integer> parseCpuList(String cpuList) {
+        List<Integer> cpus = new ArrayList<>();
+        if (cpuList == null || cpuList.trim().isEmpty()) {
+            return cpus;
+        }
+        
+        for (String part : cpuList.split(",")) {
+            String range = part.trim();
+            if (range.isEmpty()) {
+                continue;
+            }
+            int dash = range.indexOf('-');
+            if (dash > 0) {
+                int from = Integer.parseInt(range.substring(0, dash).trim());
+                int to = Integer.parseInt(range.substring(dash + 1).trim());
+                IntStream.rangeClosed(from, to).forEach(cpus::add);
+            } else {
+                cpus.add(Integer.parseInt(range));
+            }
+        }
+        return cpus.stream().distinct().collect(Collectors.toList());
+    }
+    
+    private static boolean runTaskset(String cpuList, long pid) {
+        try {
+            Process process = new ProcessBuilder("taskset", "-a", "-p", "-c", cpuList, String.valueOf(pid))
+                    .redirectErrorStream(true)
+                    .start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return false;
+            }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            logger.warn("taskset unavailable: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * cgroup v2 is used when browser.cpu.cgroup.root points at a delegated, writable cgroup with cpuset enabled
+     */
+    private static Path createSessionCgroup(CpuSlice slice) {
+        String root = ConfigLoader.get("browser.cpu.cgroup.root", "");
+        if (root.isEmpty()) {
+            return null;
+        }
+        
+        Path rootPath = Paths.get(root);
+        try {
+            String controllers = Files.readString(rootPath.resolve("cgroup.subtree_control"));
+            if (!controllers.contains("cpuset")) {
+                logger.warn("cpuset controller not enabled in {}. Falling back to taskset", rootPath);
+                return null;
+            }
+            
+            Path sessionGroup = rootPath.resolve("browser-session-" + sessionCounter.incrementAndGet());
+            Files.createDirectories(sessionGroup);
+            Files.writeString(sessionGroup.resolve("cpuset.cpus"), slice.cpuList());
+            return sessionGroup;
+        } catch (IOException e) {
+            logger.warn("Unable to create cgroup under {}: {}. Falling back to taskset", rootPath, e.getMessage());
+            return null;
+        }
+    }
+    
+    private static boolean moveToCgroup(Path cgroup, List<Long> pids) {
+        boolean moved = true;
+        for (Long pid : pids) {
+            try {
+                Files.writeString(cgroup.resolve("cgroup.procs"), String.valueOf(pid));
+            } catch (IOException e) {
+                logger.debug("Unable to move pid {} into {}: {}", pid, cgroup, e.getMessage());
+                moved = false;
+            }
+        }
+        return moved;
+    }
+    
+    private static void removeCgroup(Path cgroup) {
+        try {
+            Files.deleteIfExists(cgroup);
+        } catch (IOException e) {
+            logger.debug("Unable to remove cgroup {}: {}", cgroup, e.getMessage());
+        }
+    }
+    
+    /**
+     * A set of CPUs reserved for one browser session
+     */
+    public static class CpuSlice {
+        private final List<Integer> cpus;
+        private Path cgroup;
+        
+        CpuSlice(List<Integer> cpus) {
+            this.cpus = new ArrayList<>(cpus);
+        }
+        
+        public List<Integer> getCpus() {
+            return new ArrayList<>(cpus);
+        }
+        
+        public String cpuList() {
+            return cpus.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.yourorg.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Locates the OS processes spawned for a local WebDriver session
+ * Driver executables are direct children of the JVM and the browser tree hangs below them
+ */
+public class BrowserProcesses {
+    private static final Logger logger = LogManager.getLogger(BrowserProcesses.class);
+    
+    private BrowserProcesses() {}
+    
+    /**
+     * The driver executable started for one session, matched by the unique --port it was launched with,
+     * so parallel launches never pick up each other's processes. Empty when no child matches or its command
+     * line cannot be read
+     */
+    public static List<Long> driverRoots(Integer driverPort) {
+        if (driverPort == null) {
+            return List.of();
+        }
+        String portArgument = "--port=" + driverPort;
+        return ProcessHandle.current().children()
+                .filter(handle -> handle.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                        .orElse(false))
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * All live processes of a session: the driver roots plus every descendant browser process
+     */
+    public static List<Long> processTree(List<Long> roots) {
+        List<Long> pids = new ArrayList<>();
+        for (Long root : roots) {
+            ProcessHandle.of(root).ifPresent(handle -> {
+                pids.add(handle.pid());
+                handle.descendants().map(ProcessHandle::pid).forEach(pids::add);
+            });
+        }
+        return pids;
+    }
+    
+    /**
+     * Resident set size of the process tree in KB, read from /proc (Linux only, 0 elsewhere)
+     */
+    public static long residentSetKb(List<Long> roots) {
+        return processTree(roots).stream()
+                .mapToLong(BrowserProcesses::readRssKb)
+                .sum();
+    }
+    
+    public static boolean isLinux() {
+        return System.getProperty("os.name", "").toLowerCase().contains("linux");
+    }
+    
+    private static long readRssKb(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        
+        try {
+            return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("[^0-9]", ""))
+                    .filter(value -> !value.isEmpty())
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(0);
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Unable to read RSS for pid {}: {}", pid, e.getMessage());
+            return 0;
+        }
+    }
+}
\ No newline at end of file
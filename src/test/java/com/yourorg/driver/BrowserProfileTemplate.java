@@ -0,0 +1,222 @@
+package com.yourorg.driver;
+
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.EnvReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Warmed Chrome profile built once per run and cloned for every session
+ * Sessions start with primed HTTP/code caches instead of an empty user-data-dir
+ */
+public class BrowserProfileTemplate {
+    private static final Logger logger = LogManager.getLogger(BrowserProfileTemplate.class);
+    private static final List<String> FIRST_RUN_FLAGS = List.of(
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--disable-default-apps"
+    );
+    // Chrome refuses to start on a profile that still carries another instance's singleton locks
+    private static final List<String> LOCK_FILES = List.of("SingletonLock", "SingletonSocket", "SingletonCookie");
+    private static final AtomicInteger cloneCounter = new AtomicInteger();
+    private static volatile Path templateDir;
+    private static volatile long firstLoadSavingMs = -1;
+    
+    private BrowserProfileTemplate() {}
+    
+    /**
+     * browser.profile.template=true (or BROWSER_PROFILE_TEMPLATE=true) enables warmed profile clones
+     */
+    public static boolean isEnabled() {
+        return EnvReader.getBoolean("BROWSER_PROFILE_TEMPLATE", ConfigLoader.getBoolean("browser.profile.template", false));
+    }
+    
+    public static List<String> getFirstRunFlags() {
+        return FIRST_RUN_FLAGS;
+    }
+    
+    /**
+     * Clone the template for a new session, building the template first if this is the first session
+     */
+    public static Path cloneForSession(Supplier<ChromeOptions> baseOptions) throws IOException {
+        Path template = getOrBuildTemplate(baseOptions);
+        Path clone = template.resolveSibling("session-" + cloneCounter.incrementAndGet() + "-" + ProcessHandle.current().pid());
+        
+        long start = System.currentTimeMillis();
+        cloneProfile(template, clone);
+        logger.debug("Profile cloned in {}ms: {}", System.currentTimeMillis() - start, clone);
+        return clone;
+    }
+    
+    public static void deleteClone(Path clone) {
+        if (clone == null) {
+            return;
+        }
+        try {
+            deleteRecursively(clone);
+            logger.debug("Profile clone removed: {}", clone);
+        } catch (IOException e) {
+            logger.warn("Failed to remove profile clone {}: {}", clone, e.getMessage());
+        }
+    }
+    
+    /**
+     * First page load time saved by a warmed clone compared with an empty profile, or -1 if not measured
+     */
+    public static long getFirstLoadSavingMs() {
+        return firstLoadSavingMs;
+    }
+    
+    private static Path getOrBuildTemplate(Supplier<ChromeOptions> baseOptions) throws IOException {
+        if (templateDir == null) {
+            synchronized (BrowserProfileTemplate.class) {
+                if (templateDir == null) {
+                    templateDir = buildTemplate(baseOptions);
+                }
+            }
+        }
+        return templateDir;
+    }
+    
+    private static Path buildTemplate(Supplier<ChromeOptions> baseOptions) throws IOException {
+        Path root = Paths.get(ConfigLoader.get("browser.profile.dir", "target/browser-profiles")).toAbsolutePath();
+        Files.createDirectories(root);
+        Path template = Files.createTempDirectory(root, "template-");
+        String warmupUrl = ConfigLoader.get("app.base.url");
+        
+        logger.info("Building browser profile template: {}", template);
+        long coldLoadMs = launchAndLoad(baseOptions.get(), template, warmupUrl);
+        removeLockFiles(template);
+        
+        // Measure the same first load again from a clone to quantify the warm-cache saving
+        Path probe = template.resolveSibling("probe-" + ProcessHandle.current().pid());
+        try {
+            cloneProfile(template, probe);
+            long warmLoadMs = launchAndLoad(baseOptions.get(), probe, warmupUrl);
+            if (coldLoadMs >= 0 && warmLoadMs >= 0) {
+                firstLoadSavingMs = coldLoadMs - warmLoadMs;
+                logger.info("First page load - Empty profile: {}ms, Warmed clone: {}ms, Saved: {}ms",
+                        coldLoadMs, warmLoadMs, firstLoadSavingMs);
+            }
+        } finally {
+            deleteClone(probe);
+        }
+        
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteClone(template)));
+        return template;
+    }
+    
+    private static long launchAndLoad(ChromeOptions options, Path userDataDir, String url) {
+        options.addArguments("--user-data-dir=" + userDataDir);
+        options.addArguments(FIRST_RUN_FLAGS);
+        
+        WebDriver driver = null;
+        try {
+            driver = new ChromeDriver(options);
+            if (url == null || url.isEmpty()) {
+                logger.warn("app.base.url not configured - profile template will not have a primed HTTP cache");
+                return -1;
+            }
+            
+            long start = System.currentTimeMillis();
+            driver.get(url);
+            return System.currentTimeMillis() - start;
+        } catch (Exception e) {
+            logger.warn("Profile warm-up against {} failed: {}", url, e.getMessage());
+            return -1;
+        } finally {
+            if (driver != null) {
+                driver.quit();
+            }
+        }
+    }
+    
+    /**
+     * Copy-on-write clone via cp --reflink=auto on Linux, otherwise a plain Java copy
+     * Cache entries are copied, never hardlinked: Chrome rewrites them in place (e.g. headers on revalidation),
+     * which would leak writes into the template and every other running clone
+     */
+    private static void cloneProfile(Path source, Path target) throws IOException {
+        if (BrowserProcesses.isLinux() && reflinkCopy(source, target)) {
+            removeLockFiles(target);
+            return;
+        }
+        
+        deleteRecursively(target);
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+            
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (LOCK_FILES.contains(file.getFileName().toString())) {
+                    return FileVisitResult.CONTINUE;
+                }
+                
+                Path destination = target.resolve(source.relativize(file).toString());
+                Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+    
+    private static boolean reflinkCopy(Path source, Path target) {
+        try {
+            Process process = new ProcessBuilder("cp", "-a", "--reflink=auto", source.toString(), target.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return false;
+            }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private static void removeLockFiles(Path profile) throws IOException {
+        for (String lockFile : LOCK_FILES) {
+            Files.deleteIfExists(profile.resolve(lockFile));
+        }
+    }
+    
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    logger.debug("Unable to delete {}: {}", p, e.getMessage());
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
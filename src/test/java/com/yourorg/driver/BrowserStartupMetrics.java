@@ -0,0 +1,75 @@
+package com.yourorg.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Startup time and memory footprint per browser launch mode
+ * Lets runs compare full headless Chrome against chrome-headless-shell
+ */
+public class BrowserStartupMetrics {
+    private static final Logger logger = LogManager.getLogger(BrowserStartupMetrics.class);
+    private static final Map<String, ModeStats> modeStats = new ConcurrentHashMap<>();
+    
+    private BrowserStartupMetrics() {}
+    
+    public static void recordStartup(String mode, long startupMs) {
+        ModeStats stats = modeStats.computeIfAbsent(mode, key -> new ModeStats());
+        stats.sessions.incrementAndGet();
+        stats.totalStartupMs.addAndGet(startupMs);
+        stats.maxStartupMs.accumulateAndGet(startupMs, Math::max);
+    }
+    
+    public static void recordMemory(String mode, long rssKb) {
+        if (rssKb <= 0) {
+            return;
+        }
+        ModeStats stats = modeStats.computeIfAbsent(mode, key -> new ModeStats());
+        stats.memorySamples.incrementAndGet();
+        stats.totalRssKb.addAndGet(rssKb);
+        stats.maxRssKb.accumulateAndGet(rssKb, Math::max);
+    }
+    
+    /**
+     * Average startup and RSS per mode, keyed by mode name
+     */
+    public static Map<String, String> getComparison() {
+        Map<String, String> comparison = new TreeMap<>();
+        modeStats.forEach((mode, stats) -> comparison.put(mode, stats.toString()));
+        return comparison;
+    }
+    
+    public static void logComparison() {
+        if (modeStats.isEmpty()) {
+            return;
+        }
+        getComparison().forEach((mode, summary) ->
+                logger.info("Browser Launch Mode [{}] - {}", mode, summary));
+    }
+    
+    public static void reset() {
+        modeStats.clear();
+    }
+    
+    private static class ModeStats {
+        final AtomicLong sessions = new AtomicLong();
+        final AtomicLong totalStartupMs = new AtomicLong();
+        final AtomicLong maxStartupMs = new AtomicLong();
+        final AtomicLong memorySamples = new AtomicLong();
+        final AtomicLong totalRssKb = new AtomicLong();
+        final AtomicLong maxRssKb = new AtomicLong();
+        
+        @Override
+        public String toString() {
+            long avgStartup = sessions.get() > 0 ? totalStartupMs.get() / sessions.get() : 0;
+            long avgRss = memorySamples.get() > 0 ? totalRssKb.get() / memorySamples.get() : 0;
+            return String.format("Sessions: %d, Avg Startup: %dms, Max Startup: %dms, Avg RSS: %d MB, Max RSS: %d MB",
+                    sessions.get(), avgStartup, maxStartupMs.get(), avgRss / 1024, maxRssKb.get() / 1024);
+        }
+    }
+}
\ No newline at end of file
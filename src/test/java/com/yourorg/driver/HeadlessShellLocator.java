@@ -0,0 +1,92 @@
+package com.yourorg.driver;
+
+import com.yourorg.utils.ConfigLoader;
+import com.yourorg.utils.EnvReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Finds the chrome-headless-shell binary used by the lightweight headless mode
+ * Lookup order: explicit path, PATH entries, then the Selenium Manager cache
+ */
+public class HeadlessShellLocator {
+    private static final Logger logger = LogManager.getLogger(HeadlessShellLocator.class);
+    private static final String[] BINARY_NAMES = {"chrome-headless-shell", "chrome-headless-shell.exe"};
+    private static volatile Optional<String> resolvedBinary;
+    
+    private HeadlessShellLocator() {}
+    
+    /**
+     * browser.headless.mode=shell (or HEADLESS_MODE=shell) selects chrome-headless-shell
+     */
+    public static boolean isRequested() {
+        String mode = EnvReader.get("HEADLESS_MODE", ConfigLoader.get("browser.headless.mode", "new"));
+        return "shell".equalsIgnoreCase(mode.trim());
+    }
+    
+    public static Optional<String> resolveBinary() {
+        if (resolvedBinary == null) {
+            synchronized (HeadlessShellLocator.class) {
+                if (resolvedBinary == null) {
+                    resolvedBinary = locate();
+                    resolvedBinary.ifPresentOrElse(
+                            path -> logger.info("chrome-headless-shell found: {}", path),
+                            () -> logger.warn("chrome-headless-shell not found on this machine"));
+                }
+            }
+        }
+        return resolvedBinary;
+    }
+    
+    private static Optional<String> locate() {
+        String configured = EnvReader.get("CHROME_HEADLESS_SHELL", ConfigLoader.get("browser.headless.shell.path", ""));
+        if (configured != null && !configured.isEmpty()) {
+            if (Files.isExecutable(Paths.get(configured))) {
+                return Optional.of(configured);
+            }
+            logger.warn("Configured chrome-headless-shell is not executable: {}", configured);
+        }
+        
+        String pathEnv = Optional.ofNullable(System.getenv("PATH")).orElse("");
+        Optional<String> onPath = Arrays.stream(pathEnv.split(File.pathSeparator))
+                .filter(dir -> !dir.isEmpty())
+                .flatMap(dir -> Arrays.stream(BINARY_NAMES).map(name -> Paths.get(dir, name)))
+                .filter(Files::isExecutable)
+                .map(Path::toString)
+                .findFirst();
+        if (onPath.isPresent()) {
+            return onPath;
+        }
+        
+        return findInSeleniumCache();
+    }
+    
+    private static Optional<String> findInSeleniumCache() {
+        Path cacheDir = Paths.get(System.getProperty("user.home"), ".cache", "selenium", "chrome-headless-shell");
+        if (!Files.isDirectory(cacheDir)) {
+            return Optional.empty();
+        }
+        
+        // Newest cached version wins
+        try (Stream<Path> files = Files.walk(cacheDir, 4)) {
+            return files
+                    .filter(path -> Arrays.asList(BINARY_NAMES).contains(path.getFileName().toString()))
+                    .filter(Files::isExecutable)
+                    .max(Comparator.comparing(Path::toString))
+                    .map(Path::toString);
+        } catch (IOException e) {
+            logger.debug("Unable to scan Selenium cache: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.yourorg.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Variance statistics for page-timing samples, split by CPU isolation on/off
+ * A low coefficient of variation under isolation shows the pinning is doing its job
+ */
+public class TimingVarianceStats {
+    private static final Logger logger = LogManager.getLogger(TimingVarianceStats.class);
+    private static final Map<String, List<Double>> samples = new ConcurrentHashMap<>();
+    
+    private TimingVarianceStats() {}
+    
+    /**
+     * @param isolated whether the sampled session actually holds a pinned CPU slice
+     */
+    public static void record(String metric, double value, boolean isolated) {
+        String key = (isolated ? "isolated" : "shared") + ":" + metric;
+        List<Double> values = samples.computeIfAbsent(key, k -> new ArrayList<>());
+        synchronized (values) {
+            values.add(value);
+        }
+    }
+    
+    /**
+     * Summary per metric: count, mean, standard deviation, coefficient of variation, min and max
+     */
+    public static Map<String, String> getSummary() {
+        Map<String, String> summary = new TreeMap<>();
+        samples.forEach((key, values) -> {
+            double[] snapshot;
+            synchronized (values) {
+                snapshot = values.stream().mapToDouble(Double::doubleValue).toArray();
+            }
+            if (snapshot.length < 2) {
+                return;
+            }
+            
+            double mean = 0;
+            for (double value : snapshot) {
+                mean += value;
+            }
+            mean /= snapshot.length;
+            
+            double squaredDiffs = 0;
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double value : snapshot) {
+                squaredDiffs += (value - mean) * (value - mean);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            double stdDev = Math.sqrt(squaredDiffs / (snapshot.length - 1));
+            double cv = mean != 0 ? stdDev / mean * 100 : 0;
+            
+            summary.put(key, String.format("n=%d, mean=%.3f, stddev=%.3f, cv=%.1f%%, min=%.3f, max=%.3f",
+                    snapshot.length, mean, stdDev, cv, min, max));
+        });
+        return summary;
+    }
+    
+    public static void logSummary() {
+        getSummary().forEach((metric, stats) -> logger.info("Timing Variance [{}] - {}", metric, stats));
+    }
+    
+    public static void reset() {
+        samples.clear();
+    }
+}
\ No newline at end of file
@@ -1,28 +1,35 @@
 package com.yourorg.driver;
 
-import com.yourorg.interfaces.IWebDriverManager;
-import com.yourorg.utils.ConfigLoader;
-import com.yourorg.utils.EnvReader;
+import com.yourorg.base.BrowserMatrix;
+import com.yourorg.driver.network.NetworkCaptureFactory;
+import com.yourorg.driver.network.NetworkCaptureStats;
+import com.yourorg.interfaces.INetworkCapture;
 import com.yourorg.interfaces.IWebDriverManager;
 import com.yourorg.utils.ConfigLoader;
 import com.yourorg.utils.EnvReader;
 //import io.github.bonigarcia.wdm.WebDriverManager as WDM;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.devtools.DevTools;
 import org.openqa.selenium.devtools.v118.network.Network;
 import org.openqa.selenium.devtools.v118.performance.Performance;
 import org.openqa.selenium.devtools.v118.runtime.Runtime;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +44,13 @@ public class WebDriverManager implements IWebDriverManager {
     private static final Logger logger = LogManager.getLogger(WebDriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<DevTools> devToolsThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> pooledBrowserThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> launchModeThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> driverPortThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<List<Long>> processRootsThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserCpuIsolation.CpuSlice> cpuSliceThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Path> profileCloneThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<INetworkCapture> networkCaptureThreadLocal = new ThreadLocal<>();
     private static WebDriverManager instance;
     
     // Private constructor for Singleton pattern
@@ -56,51 +70,188 @@ public class WebDriverManager implements IWebDriverManager {
     
     @Override
     public WebDriver createDriver() {
-        String browserName = EnvReader.get("BROWSER", ConfigLoader.get("browser.name", "chrome"));
+        return launchDriver(defaultBrowserName());
+    }
+    
+    /**
+     * BROWSER, then -Dbrowser, then browser.name
+     */
+    public static String defaultBrowserName() {
+        return EnvReader.get("BROWSER", System.getProperty("browser", ConfigLoader.get("browser.name", "chrome")));
+    }
+    
+    /**
+     * HEADLESS, then -Dheadless, then browser.headless
+     */
+    private static boolean isHeadless() {
+        return EnvReader.getBoolean("HEADLESS",
+                Boolean.parseBoolean(System.getProperty("headless", ConfigLoader.get("browser.headless", "false"))));
+    }
+    
+    /**
+     * Create a driver for a browser matrix entry, bounded by that browser's session pool
+     */
+    public WebDriver createDriver(String browserName) {
+        String browser = browserName.toLowerCase();
+        BrowserMatrix.acquireSession(browser);
+        pooledBrowserThreadLocal.set(browser);
+        
+        try {
+            return launchDriver(browser);
+        } catch (RuntimeException e) {
+            releasePooledSession();
+            throw e;
+        }
+    }
+    
+    private WebDriver launchDriver(String browserName) {
         String remoteUrl = EnvReader.get("REMOTE_URL", ConfigLoader.get("remote.url"));
-        boolean headless = EnvReader.getBoolean("HEADLESS", ConfigLoader.getBoolean("browser.headless", false));
+        boolean headless = isHeadless();
         
-        WebDriver driver;
+        WebDriver driver = null;
+        boolean local = remoteUrl == null || remoteUrl.isEmpty();
+        String launchMode = resolveLaunchMode(browserName, headless, local);
         
         try {
+            if (local && launchMode.startsWith("chrome") && BrowserProfileTemplate.isEnabled()) {
+                // Cloned before the launch timer starts so template warm-up is not counted as startup
+                profileCloneThreadLocal.set(BrowserProfileTemplate.cloneForSession(
+                        () -> configureLocalChromeOptions(headless)));
+            }
+            
+            long launchStart = System.currentTimeMillis();
+            
             driver = Optional.ofNullable(remoteUrl)
                     .filter(url -> !url.isEmpty())
                     .map(url -> createRemoteDriver(browserName, url, headless))
                     .orElseGet(() -> createLocalDriver(browserName, headless));
             
+            long startupMs = System.currentTimeMillis() - launchStart;
+            BrowserStartupMetrics.recordStartup(launchMode, startupMs);
+            launchModeThreadLocal.set(launchMode);
+            if (local) {
+                List<Long> processRoots = BrowserProcesses.driverRoots(driverPortThreadLocal.get());
+                driverPortThreadLocal.remove();
+                processRootsThreadLocal.set(processRoots);
+                if (processRoots.isEmpty()) {
+                    logger.warn("Browser processes of this session not found - memory sampling and CPU pinning skipped");
+                } else if (BrowserCpuIsolation.isEnabled()) {
+                    cpuSliceThreadLocal.set(BrowserCpuIsolation.pinSession(processRoots));
+                }
+            }
+            logger.info("Browser launched in {}ms - Mode: {}", startupMs, launchMode);
+            
             configureDriver(driver);
             setupCDP(driver);
             driverThreadLocal.set(driver);
+            if (isNetworkCaptureEnabled()) {
+                startNetworkCapture();
+            }
             
             logger.info("WebDriver created successfully - Browser: {}, Remote: {}", 
                     browserName, remoteUrl != null);
             
         } catch (Exception e) {
             logger.error("Failed to create WebDriver: {}", e.getMessage());
+            abandonLaunch(driver);
             throw new RuntimeException("WebDriver creation failed", e);
         }
         
         return driver;
     }
     
+    /**
+     * Undo a launch that failed part way: quit the browser if it started and return its CPU slice and profile clone,
+     * so nothing is left on this thread for the next session
+     */
+    private void abandonLaunch(WebDriver driver) {
+        networkCaptureThreadLocal.remove();
+        devToolsThreadLocal.remove();
+        driverThreadLocal.remove();
+        if (driver != null) {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                logger.warn("Error quitting WebDriver after failed setup: {}", e.getMessage());
+            }
+        }
+        BrowserCpuIsolation.releaseSession(cpuSliceThreadLocal.get());
+        cpuSliceThreadLocal.remove();
+        processRootsThreadLocal.remove();
+        launchModeThreadLocal.remove();
+        driverPortThreadLocal.remove();
+        removeProfileClone();
+    }
+    
     private WebDriver createLocalDriver(String browserName, boolean headless) {
         switch (browserName.toLowerCase()) {
             case "chrome":
 //                WDM.chromedriver().setup();
-                return new ChromeDriver(configureChromeOptions(headless));
+                return new ChromeDriver(withSessionPort(ChromeDriverService.createDefaultService()),
+                        withProfileClone(configureLocalChromeOptions(headless)));
             case "firefox":
 //                WDM.firefoxdriver().setup();
-                return new FirefoxDriver(configureFirefoxOptions(headless));
+                return new FirefoxDriver(withSessionPort(GeckoDriverService.createDefaultService()),
+                        configureFirefoxOptions(headless));
             case "edge":
 //                WDM.edgedriver().setup();
-                return new EdgeDriver(configureEdgeOptions(headless));
+                return new EdgeDriver(withSessionPort(EdgeDriverService.createDefaultService()),
+                        configureEdgeOptions(headless));
             default:
                 logger.warn("Unsupported browser: {}. Using Chrome as default.", browserName);
 //                WDM.chromedriver().setup();
-                return new ChromeDriver(configureChromeOptions(headless));
+                return new ChromeDriver(withSessionPort(ChromeDriverService.createDefaultService()),
+                        withProfileClone(configureLocalChromeOptions(headless)));
         }
     }
     
+    /**
+     * Each driver gets its own free port, which identifies this session's driver process among parallel launches
+     */
+    private <T extends DriverService> T withSessionPort(T service) {
+        driverPortThreadLocal.set(service.getUrl().getPort());
+        return service;
+    }
+    
+    private ChromeOptions withProfileClone(ChromeOptions options) {
+        Path profileClone = profileCloneThreadLocal.get();
+        if (profileClone != null) {
+            options.addArguments("--user-data-dir=" + profileClone);
+            options.addArguments(BrowserProfileTemplate.getFirstRunFlags());
+        }
+        return options;
+    }
+    
+    private void removeProfileClone() {
+        BrowserProfileTemplate.deleteClone(profileCloneThreadLocal.get());
+        profileCloneThreadLocal.remove();
+    }
+    
+    /**
+     * Local Chrome can run as chrome-headless-shell, which starts faster and uses less memory
+     */
+    private ChromeOptions configureLocalChromeOptions(boolean headless) {
+        if (headless && HeadlessShellLocator.isRequested()) {
+            Optional<String> shellBinary = HeadlessShellLocator.resolveBinary();
+            if (shellBinary.isPresent()) {
+                return configureHeadlessShellOptions(shellBinary.get());
+            }
+            logger.warn("Headless shell mode requested but binary is missing. Falling back to --headless=new");
+        }
+        return configureChromeOptions(headless);
+    }
+    
+    private String resolveLaunchMode(String browserName, boolean headless, boolean local) {
+        String browser = browserName.toLowerCase();
+        boolean chrome = !browser.equals("firefox") && !browser.equals("edge");
+        if (chrome && headless && local && HeadlessShellLocator.isRequested()
+                && HeadlessShellLocator.resolveBinary().isPresent()) {
+            return "chrome-headless-shell";
+        }
+        String name = chrome ? "chrome" : browser;
+        return headless ? name + "-headless" : name;
+    }
+    
     private WebDriver createRemoteDriver(String browserName, String remoteUrl, boolean headless) {
         try {
             switch (browserName.toLowerCase()) {
@@ -161,6 +312,37 @@ public class WebDriverManager implements IWebDriverManager {
         return options;
     }
     
+    private ChromeOptions configureHeadlessShellOptions(String binaryPath) {
+        ChromeOptions options = new ChromeOptions();
+        options.setBinary(binaryPath);
+        
+        // The shell is always headless and ships without most browser UI features
+        List<String> shellArgs = List.of(
+                "--no-sandbox",
+                "--disable-dev-shm-usage",
+                "--disable-gpu",
+                "--disable-extensions",
+                "--remote-allow-origins=*",
+                "--no-first-run",
+                "--mute-audio",
+                "--disable-background-networking",
+                "--disable-component-update",
+                "--disable-default-apps",
+                "--disable-sync"
+        );
+        
+        options.addArguments(shellArgs);
+        
+        String windowSize = ConfigLoader.get("browser.window.size", "1920,1080");
+        options.addArguments("--window-size=" + windowSize);
+        
+        Optional.ofNullable(ConfigLoader.get("browser.user.agent"))
+                .filter(userAgent -> !userAgent.isEmpty())
+                .ifPresent(userAgent -> options.addArguments("--user-agent=" + userAgent));
+        
+        return options;
+    }
+    
     private FirefoxOptions configureFirefoxOptions(boolean headless) {
         FirefoxOptions options = new FirefoxOptions();
         
@@ -170,6 +352,11 @@ public class WebDriverManager implements IWebDriverManager {
             options.addArguments("--headless");
         }
         
+        // BiDi is only negotiated when requested, and is what network capture uses on Firefox
+        if (isNetworkCaptureEnabled()) {
+            options.setCapability("webSocketUrl", true);
+        }
+        
         // Window size
         String windowSize = ConfigLoader.get("browser.window.size", "1920,1080");
         String[] dimensions = windowSize.split(",");
@@ -211,8 +398,7 @@ public class WebDriverManager implements IWebDriverManager {
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
         
-        boolean headless = EnvReader.getBoolean("HEADLESS", ConfigLoader.getBoolean("browser.headless", false));
-        if (!headless) {
+        if (!isHeadless()) {
             driver.manage().window().maximize();
         }
     }
@@ -273,6 +459,56 @@ public class WebDriverManager implements IWebDriverManager {
         }
     }
     
+    /**
+     * browser.network.capture=true (or NETWORK_CAPTURE=true) starts capture for every new session
+     */
+    public static boolean isNetworkCaptureEnabled() {
+        return EnvReader.getBoolean("NETWORK_CAPTURE", ConfigLoader.getBoolean("browser.network.capture", false));
+    }
+    
+    /**
+     * Start browser-neutral network and console capture: CDP on Chromium, WebDriver BiDi on Firefox
+     */
+    public Optional<INetworkCapture> startNetworkCapture() {
+        INetworkCapture existing = networkCaptureThreadLocal.get();
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        
+        WebDriver driver = driverThreadLocal.get();
+        if (driver == null) {
+            return Optional.empty();
+        }
+        
+        Optional<INetworkCapture> capture = NetworkCaptureFactory.create(driver, getDevTools());
+        capture.ifPresent(active -> {
+            try {
+                active.start();
+                networkCaptureThreadLocal.set(active);
+            } catch (Exception e) {
+                logger.warn("Failed to start {} network capture: {}", active.getProtocol(), e.getMessage());
+            }
+        });
+        return Optional.ofNullable(networkCaptureThreadLocal.get());
+    }
+    
+    public Optional<INetworkCapture> getNetworkCapture() {
+        return Optional.ofNullable(networkCaptureThreadLocal.get());
+    }
+    
+    private void stopNetworkCapture() {
+        INetworkCapture capture = networkCaptureThreadLocal.get();
+        if (capture == null) {
+            return;
+        }
+        
+        capture.stop();
+        String browser = Optional.ofNullable(launchModeThreadLocal.get()).orElse(capture.getProtocol());
+        NetworkCaptureStats.record(browser, capture);
+        logger.info("Network Summary [{}] - {}", browser, NetworkCaptureStats.summarize(capture));
+        networkCaptureThreadLocal.remove();
+    }
+    
     /**
      * Capture performance metrics using CDP
      */
@@ -286,6 +522,7 @@ public class WebDriverManager implements IWebDriverManager {
                 
                 performanceMetrics.forEach(metric -> {
                     metrics.put(metric.getName(), metric.getValue());
+                    TimingVarianceStats.record(metric.getName(), metric.getValue().doubleValue(), isSessionIsolated());
                 });
                 
                 logger.info("Performance metrics captured: {} metrics", metrics.size());
@@ -297,6 +534,42 @@ public class WebDriverManager implements IWebDriverManager {
         return metrics;
     }
     
+    private boolean isSessionIsolated() {
+        return cpuSliceThreadLocal.get() != null;
+    }
+    
+    /**
+     * Capture Navigation Timing for the current page (works for every browser, not just CDP)
+     */
+    public Map<String, Double> getNavigationTimings() {
+        Map<String, Double> timings = new HashMap<>();
+        WebDriver driver = driverThreadLocal.get();
+        
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                Object result = ((JavascriptExecutor) driver).executeScript(
+                        "const nav = performance.getEntriesByType('navigation')[0];" +
+                        "return nav ? {ttfb: nav.responseStart - nav.requestStart," +
+                        " domContentLoaded: nav.domContentLoadedEventEnd - nav.startTime," +
+                        " load: nav.loadEventEnd - nav.startTime} : null;");
+                
+                if (result instanceof Map) {
+                    ((Map<?, ?>) result).forEach((name, value) -> {
+                        if (value instanceof Number) {
+                            double timing = ((Number) value).doubleValue();
+                            timings.put(name.toString(), timing);
+                            TimingVarianceStats.record("navigation." + name, timing, isSessionIsolated());
+                        }
+                    });
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to capture navigation timings: {}", e.getMessage());
+            }
+        }
+        
+        return timings;
+    }
+    
     /**
      * Execute JavaScript using CDP
      */
@@ -329,11 +602,20 @@ public class WebDriverManager implements IWebDriverManager {
         return driver;
     }
     
+    /**
+     * Driver of this thread's session, without creating one when there is none
+     */
+    public Optional<WebDriver> getCurrentDriver() {
+        return Optional.ofNullable(driverThreadLocal.get());
+    }
+    
     @Override
     public void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         DevTools devTools = devToolsThreadLocal.get();
         
+        stopNetworkCapture();
+        
         if (devTools != null) {
             try {
                 devTools.close();
@@ -344,6 +626,8 @@ public class WebDriverManager implements IWebDriverManager {
             }
         }
         
+        recordSessionMemory();
+        
         if (driver != null) {
             try {
                 driver.quit();
@@ -352,8 +636,35 @@ public class WebDriverManager implements IWebDriverManager {
                 logger.error("Error quitting WebDriver: {}", e.getMessage());
             } finally {
                 driverThreadLocal.remove();
+                releasePooledSession();
             }
         }
+        
+        BrowserCpuIsolation.releaseSession(cpuSliceThreadLocal.get());
+        cpuSliceThreadLocal.remove();
+        removeProfileClone();
+    }
+    
+    /**
+     * Sample the session's process tree RSS just before quit, when it is at its largest
+     */
+    private void recordSessionMemory() {
+        List<Long> roots = processRootsThreadLocal.get();
+        String launchMode = launchModeThreadLocal.get();
+        
+        if (roots != null && !roots.isEmpty() && launchMode != null) {
+            BrowserStartupMetrics.recordMemory(launchMode, BrowserProcesses.residentSetKb(roots));
+        }
+        processRootsThreadLocal.remove();
+        launchModeThreadLocal.remove();
+    }
+    
+    private void releasePooledSession() {
+        String browser = pooledBrowserThreadLocal.get();
+        if (browser != null) {
+            BrowserMatrix.releaseSession(browser);
+            pooledBrowserThreadLocal.remove();
+        }
     }
     
     @Override
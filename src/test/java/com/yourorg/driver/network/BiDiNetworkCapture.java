@@ -0,0 +1,148 @@
+package com.yourorg.driver.network;
+
+import com.yourorg.interfaces.INetworkCapture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Network and console capture over WebDriver BiDi (Firefox, and Chromium when CDP is unavailable)
+ * Events are read as raw maps so capture does not depend on the typed BiDi module API of a given Selenium release
+ */
+public class BiDiNetworkCapture implements INetworkCapture {
+    private static final Logger logger = LogManager.getLogger(BiDiNetworkCapture.class);
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP = input -> input.read(Json.MAP_TYPE);
+    private static final Event<Map<String, Object>> BEFORE_REQUEST_SENT = new Event<>("network.beforeRequestSent", AS_MAP);
+    private static final Event<Map<String, Object>> RESPONSE_COMPLETED = new Event<>("network.responseCompleted", AS_MAP);
+    private static final Event<Map<String, Object>> FETCH_ERROR = new Event<>("network.fetchError", AS_MAP);
+    private static final Event<Map<String, Object>> LOG_ENTRY_ADDED = new Event<>("log.entryAdded", AS_MAP);
+    private final BiDi biDi;
+    private final Map<String, NetworkEvent> requests = new ConcurrentHashMap<>();
+    private final List<NetworkEvent> completed = new CopyOnWriteArrayList<>();
+    private final List<ConsoleEvent> consoleEvents = new CopyOnWriteArrayList<>();
+    
+    public BiDiNetworkCapture(BiDi biDi) {
+        this.biDi = biDi;
+    }
+    
+    @Override
+    public void start() {
+        // addListener subscribes the session to each event before registering the handler
+        biDi.addListener(BEFORE_REQUEST_SENT, params -> {
+            Map<String, Object> request = map(params.get("request"));
+            String id = String.valueOf(request.get("request"));
+            NetworkEvent event = new NetworkEvent(id, getProtocol());
+            event.setUrl(string(request.get("url")));
+            event.setMethod(string(request.get("method")));
+            event.setStartEpochMs(number(params.get("timestamp")).longValue());
+            requests.putIfAbsent(id, event);
+        });
+        
+        biDi.addListener(RESPONSE_COMPLETED, params -> complete(params).ifPresent(event -> {
+            Map<String, Object> response = map(params.get("response"));
+            event.setStatus(number(response.get("status")).intValue());
+            event.setMimeType(string(response.get("mimeType")));
+            event.setFromCache(Boolean.TRUE.equals(response.get("fromCache")));
+            event.setEncodedBytes(number(response.get("bytesReceived")).longValue());
+        }));
+        
+        biDi.addListener(FETCH_ERROR, params -> complete(params)
+                .ifPresent(event -> event.setErrorText(string(params.get("errorText")))));
+        
+        biDi.addListener(LOG_ENTRY_ADDED, params -> consoleEvents.add(new ConsoleEvent(
+                string(params.get("level")),
+                string(params.get("text")),
+                string(params.get("type")),
+                number(params.get("timestamp")).longValue())));
+        
+        logger.info("BiDi network capture started");
+    }
+    
+    /**
+     * Finish a request; duration comes from the request's fetch timings, else from event timestamps
+     */
+    private Optional<NetworkEvent> complete(Map<String, Object> params) {
+        Map<String, Object> request = map(params.get("request"));
+        String id = String.valueOf(request.get("request"));
+        NetworkEvent event = requests.remove(id);
+        if (event == null) {
+            // Subscribed mid-request: build the record from the completion event alone
+            event = new NetworkEvent(id, getProtocol());
+            event.setUrl(string(request.get("url")));
+            event.setMethod(string(request.get("method")));
+            event.setStartEpochMs(number(params.get("timestamp")).longValue());
+        }
+        
+        Map<String, Object> timings = map(request.get("timings"));
+        double requestTime = number(timings.get("requestTime")).doubleValue();
+        double responseEnd = number(timings.get("responseEnd")).doubleValue();
+        if (requestTime > 0 && responseEnd >= requestTime) {
+            event.setDurationMs(responseEnd - requestTime);
+        } else {
+            event.setDurationMs(number(params.get("timestamp")).longValue() - event.getStartEpochMs());
+        }
+        
+        completed.add(event);
+        return Optional.of(event);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+    
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+    
+    private static Number number(Object value) {
+        return value instanceof Number ? (Number) value : 0;
+    }
+    
+    @Override
+    public void stop() {
+        try {
+            biDi.clearListener(BEFORE_REQUEST_SENT);
+            biDi.clearListener(RESPONSE_COMPLETED);
+            biDi.clearListener(FETCH_ERROR);
+            biDi.clearListener(LOG_ENTRY_ADDED);
+        } catch (Exception e) {
+            logger.debug("Error stopping BiDi network capture: {}", e.getMessage());
+        }
+        logger.info("BiDi network capture stopped - Requests: {}, Console entries: {}",
+                completed.size(), consoleEvents.size());
+    }
+    
+    @Override
+    public String getProtocol() {
+        return "bidi";
+    }
+    
+    @Override
+    public List<NetworkEvent> getNetworkEvents() {
+        return new ArrayList<>(completed);
+    }
+    
+    @Override
+    public List<ConsoleEvent> getConsoleEvents() {
+        return new ArrayList<>(consoleEvents);
+    }
+    
+    @Override
+    public void clear() {
+        requests.clear();
+        completed.clear();
+        consoleEvents.clear();
+    }
+}
\ No newline at end of file
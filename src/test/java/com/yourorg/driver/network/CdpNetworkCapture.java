@@ -0,0 +1,170 @@
+package com.yourorg.driver.network;
+
+import com.yourorg.interfaces.INetworkCapture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v118.log.Log;
+import org.openqa.selenium.devtools.v118.network.Network;
+import org.openqa.selenium.devtools.v118.runtime.Runtime;
+import org.openqa.selenium.devtools.v118.runtime.model.RemoteObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Network and console capture for Chromium browsers over CDP
+ * Expects the Network and Runtime domains to be enabled already (see WebDriverManager.setupCDP)
+ */
+public class CdpNetworkCapture implements INetworkCapture {
+    private static final Logger logger = LogManager.getLogger(CdpNetworkCapture.class);
+    private final DevTools devTools;
+    private final Map<String, NetworkEvent> requests = new ConcurrentHashMap<>();
+    // loadingFinished/loadingFailed only carry monotonic timestamps, so durations are measured on that clock
+    private final Map<String, Double> monotonicStarts = new ConcurrentHashMap<>();
+    private final List<NetworkEvent> completed = new CopyOnWriteArrayList<>();
+    private final List<ConsoleEvent> consoleEvents = new CopyOnWriteArrayList<>();
+    // DevTools can only drop every listener at once, so after stop() this capture's listeners stay registered but idle
+    private volatile boolean capturing;
+    
+    public CdpNetworkCapture(DevTools devTools) {
+        this.devTools = devTools;
+    }
+    
+    @Override
+    public void start() {
+        capturing = true;
+        devTools.send(Log.enable());
+        
+        devTools.addListener(Network.requestWillBeSent(), sent -> {
+            if (!capturing) {
+                return;
+            }
+            String id = sent.getRequestId().toString();
+            NetworkEvent event = new NetworkEvent(id, getProtocol());
+            event.setUrl(sent.getRequest().getUrl());
+            event.setMethod(sent.getRequest().getMethod());
+            event.setStartEpochMs((long) (sent.getWallTime().toJson().doubleValue() * 1000));
+            requests.put(id, event);
+            monotonicStarts.put(id, sent.getTimestamp().toJson().doubleValue());
+        });
+        
+        devTools.addListener(Network.responseReceived(), received -> {
+            NetworkEvent event = requests.get(received.getRequestId().toString());
+            if (event != null) {
+                event.setStatus(received.getResponse().getStatus());
+                event.setMimeType(received.getResponse().getMimeType());
+                event.setFromCache(received.getResponse().getFromDiskCache().orElse(false)
+                        || received.getResponse().getFromServiceWorker().orElse(false));
+            }
+        });
+        
+        devTools.addListener(Network.requestServedFromCache(), requestId -> {
+            NetworkEvent event = requests.get(requestId.toString());
+            if (event != null) {
+                event.setFromCache(true);
+            }
+        });
+        
+        devTools.addListener(Network.loadingFinished(), finished -> {
+            String id = finished.getRequestId().toString();
+            complete(id, finished.getTimestamp().toJson().doubleValue())
+                    .ifPresent(event -> event.setEncodedBytes(finished.getEncodedDataLength().longValue()));
+        });
+        
+        devTools.addListener(Network.loadingFailed(), failed -> {
+            String id = failed.getRequestId().toString();
+            complete(id, failed.getTimestamp().toJson().doubleValue())
+                    .ifPresent(event -> event.setErrorText(failed.getErrorText()));
+        });
+        
+        devTools.addListener(Runtime.consoleAPICalled(), call -> addConsoleEvent(new ConsoleEvent(
+                call.getType().toString(),
+                call.getArgs().stream().map(CdpNetworkCapture::describe).collect(Collectors.joining(" ")),
+                "console",
+                call.getTimestamp().toJson().longValue())));
+        
+        devTools.addListener(Runtime.exceptionThrown(), thrown -> addConsoleEvent(new ConsoleEvent(
+                "error",
+                thrown.getExceptionDetails().getException()
+                        .flatMap(RemoteObject::getDescription)
+                        .orElse(thrown.getExceptionDetails().getText()),
+                "javascript",
+                thrown.getTimestamp().toJson().longValue())));
+        
+        devTools.addListener(Log.entryAdded(), entry -> addConsoleEvent(new ConsoleEvent(
+                entry.getLevel().toString(),
+                entry.getText(),
+                entry.getSource().toString(),
+                entry.getTimestamp().toJson().longValue())));
+        
+        logger.info("CDP network capture started");
+    }
+    
+    private void addConsoleEvent(ConsoleEvent event) {
+        if (capturing) {
+            consoleEvents.add(event);
+        }
+    }
+    
+    private Optional<NetworkEvent> complete(String requestId, double monotonicEnd) {
+        NetworkEvent event = requests.remove(requestId);
+        Double monotonicStart = monotonicStarts.remove(requestId);
+        if (event == null || !capturing) {
+            return Optional.empty();
+        }
+        if (monotonicStart != null) {
+            event.setDurationMs((monotonicEnd - monotonicStart) * 1000);
+        }
+        completed.add(event);
+        return Optional.of(event);
+    }
+    
+    private static String describe(RemoteObject argument) {
+        return argument.getValue()
+                .map(String::valueOf)
+                .or(argument::getDescription)
+                .orElse(argument.getType().toString());
+    }
+    
+    @Override
+    public void stop() {
+        capturing = false;
+        try {
+            // Network and Runtime are shared with WebDriverManager, so only the Log domain enabled in start() is disabled
+            devTools.send(Log.disable());
+        } catch (Exception e) {
+            logger.debug("Error stopping CDP network capture: {}", e.getMessage());
+        }
+        logger.info("CDP network capture stopped - Requests: {}, Console entries: {}",
+                completed.size(), consoleEvents.size());
+    }
+    
+    @Override
+    public String getProtocol() {
+        return "cdp";
+    }
+    
+    @Override
+    public List<NetworkEvent> getNetworkEvents() {
+        return new ArrayList<>(completed);
+    }
+    
+    @Override
+    public List<ConsoleEvent> getConsoleEvents() {
+        return new ArrayList<>(consoleEvents);
+    }
+    
+    @Override
+    public void clear() {
+        requests.clear();
+        monotonicStarts.clear();
+        completed.clear();
+        consoleEvents.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.yourorg.driver.network;
+
+/**
+ * Browser-neutral console/log entry
+ * Populated from CDP Runtime/Log events or WebDriver BiDi log.entryAdded
+ */
+public class ConsoleEvent {
+    private final String level;
+    private final String text;
+    private final String source;
+    private final long timestampEpochMs;
+    
+    ConsoleEvent(String level, String text, String source, long timestampEpochMs) {
+        this.level = normalizeLevel(level);
+        this.text = text;
+        this.source = source;
+        this.timestampEpochMs = timestampEpochMs;
+    }
+    
+    /**
+     * CDP reports "warning" and "verbose" where BiDi uses "warn" and "debug"; both map to the BiDi names
+     */
+    private static String normalizeLevel(String level) {
+        if (level == null) {
+            return "info";
+        }
+        switch (level.toLowerCase()) {
+            case "warning":
+                return "warn";
+            case "verbose":
+                return "debug";
+            case "log":
+                return "info";
+            default:
+                return level.toLowerCase();
+        }
+    }
+    
+    public String getLevel() {
+        return level;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    /**
+     * "console" for console API calls, "javascript" for uncaught errors, otherwise the browser log source
+     */
+    public String getSource() {
+        return source;
+    }
+    
+    public long getTimestampEpochMs() {
+        return timestampEpochMs;
+    }
+    
+    public boolean isError() {
+        return "error".equals(level);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("[%s] %s: %s", level, source, text);
+    }
+}
\ No newline at end of file
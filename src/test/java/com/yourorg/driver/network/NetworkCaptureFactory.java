@@ -0,0 +1,45 @@
+package com.yourorg.driver.network;
+
+import com.yourorg.interfaces.INetworkCapture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.remote.Augmenter;
+
+import java.util.Optional;
+
+/**
+ * Picks the capture protocol for a session: CDP when a DevTools session exists, otherwise WebDriver BiDi
+ */
+public class NetworkCaptureFactory {
+    private static final Logger logger = LogManager.getLogger(NetworkCaptureFactory.class);
+    
+    private NetworkCaptureFactory() {}
+    
+    public static Optional<INetworkCapture> create(WebDriver driver, DevTools devTools) {
+        if (devTools != null) {
+            return Optional.of(new CdpNetworkCapture(devTools));
+        }
+        
+        // Firefox only exposes BiDi when the session was created with webSocketUrl=true;
+        // remote sessions need augmenting before they implement HasBiDi
+        WebDriver candidate = driver instanceof HasBiDi ? driver : new Augmenter().augment(driver);
+        if (candidate instanceof HasBiDi) {
+            try {
+                Optional<INetworkCapture> capture = ((HasBiDi) candidate).maybeGetBiDi()
+                        .map(BiDiNetworkCapture::new);
+                if (capture.isPresent()) {
+                    return capture;
+                }
+            } catch (Exception e) {
+                logger.warn("BiDi connection failed: {}", e.getMessage());
+            }
+        }
+        
+        logger.warn("Network capture unavailable for {} - neither CDP nor BiDi is enabled",
+                driver.getClass().getSimpleName());
+        return Optional.empty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.yourorg.driver.network;
+
+import com.yourorg.interfaces.INetworkCapture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Timing and size analytics over normalized network events
+ * Aggregated per browser so CDP (Chromium) and BiDi (Firefox) page-load costs can be compared
+ */
+public class NetworkCaptureStats {
+    private static final Logger logger = LogManager.getLogger(NetworkCaptureStats.class);
+    private static final Map<String, List<NetworkEvent>> eventsByBrowser = new ConcurrentHashMap<>();
+    private static final Map<String, List<ConsoleEvent>> consoleByBrowser = new ConcurrentHashMap<>();
+    
+    private NetworkCaptureStats() {}
+    
+    public static void record(String browser, INetworkCapture capture) {
+        List<NetworkEvent> events = eventsByBrowser.computeIfAbsent(browser, key -> new ArrayList<>());
+        synchronized (events) {
+            events.addAll(capture.getNetworkEvents());
+        }
+        List<ConsoleEvent> console = consoleByBrowser.computeIfAbsent(browser, key -> new ArrayList<>());
+        synchronized (console) {
+            console.addAll(capture.getConsoleEvents());
+        }
+    }
+    
+    /**
+     * Requests, failures, cache hits, bytes and duration percentiles for one set of events
+     */
+    public static Map<String, Object> summarize(List<NetworkEvent> events) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        List<Double> durations = events.stream()
+                .map(NetworkEvent::getDurationMs)
+                .filter(duration -> duration >= 0)
+                .sorted()
+                .collect(Collectors.toList());
+        
+        summary.put("requests", events.size());
+        summary.put("failed", events.stream().filter(NetworkEvent::isFailed).count());
+        summary.put("fromCache", events.stream().filter(NetworkEvent::isFromCache).count());
+        summary.put("totalBytes", events.stream().mapToLong(NetworkEvent::getEncodedBytes).filter(bytes -> bytes > 0).sum());
+        summary.put("p50Ms", percentile(durations, 50));
+        summary.put("p95Ms", percentile(durations, 95));
+        summary.put("maxMs", durations.isEmpty() ? 0.0 : durations.get(durations.size() - 1));
+        summary.put("bytesByType", events.stream()
+                .filter(event -> event.getEncodedBytes() > 0)
+                .collect(Collectors.groupingBy(NetworkEvent::getResourceType, TreeMap::new,
+                        Collectors.summingLong(NetworkEvent::getEncodedBytes))));
+        return summary;
+    }
+    
+    public static Map<String, Object> summarize(INetworkCapture capture) {
+        Map<String, Object> summary = summarize(capture.getNetworkEvents());
+        summary.put("consoleErrors", capture.getConsoleEvents().stream().filter(ConsoleEvent::isError).count());
+        return summary;
+    }
+    
+    private static double percentile(List<Double> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+    
+    /**
+     * Per-browser summary for the whole run, keyed by browser
+     */
+    public static Map<String, Map<String, Object>> getComparison() {
+        Map<String, Map<String, Object>> comparison = new TreeMap<>();
+        eventsByBrowser.forEach((browser, events) -> {
+            Map<String, Object> summary;
+            synchronized (events) {
+                summary = summarize(new ArrayList<>(events));
+            }
+            List<ConsoleEvent> console = consoleByBrowser.getOrDefault(browser, List.of());
+            synchronized (console) {
+                summary.put("consoleErrors", console.stream().filter(ConsoleEvent::isError).count());
+            }
+            comparison.put(browser, summary);
+        });
+        return comparison;
+    }
+    
+    public static void logComparison() {
+        getComparison().forEach((browser, summary) -> logger.info("Network Capture [{}] - {}", browser, summary));
+    }
+    
+    public static void reset() {
+        eventsByBrowser.clear();
+        consoleByBrowser.clear();
+    }
+}
\ No newline at end of file
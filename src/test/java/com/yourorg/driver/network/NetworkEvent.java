@@ -0,0 +1,147 @@
+package com.yourorg.driver.network;
+
+/**
+ * Browser-neutral network request record
+ * Populated from CDP Network.* or WebDriver BiDi network.* events
+ */
+public class NetworkEvent {
+    private final String requestId;
+    private final String protocol;
+    private String url;
+    private String method;
+    private int status;
+    private String mimeType;
+    private long startEpochMs;
+    private double durationMs = -1;
+    private long encodedBytes = -1;
+    private boolean fromCache;
+    private String errorText;
+    
+    NetworkEvent(String requestId, String protocol) {
+        this.requestId = requestId;
+        this.protocol = protocol;
+    }
+    
+    public String getRequestId() {
+        return requestId;
+    }
+    
+    /**
+     * "cdp" or "bidi"
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+    
+    public String getUrl() {
+        return url;
+    }
+    
+    public String getMethod() {
+        return method;
+    }
+    
+    public int getStatus() {
+        return status;
+    }
+    
+    public String getMimeType() {
+        return mimeType;
+    }
+    
+    public long getStartEpochMs() {
+        return startEpochMs;
+    }
+    
+    /**
+     * Request start to response end in milliseconds, or -1 if the request never completed
+     */
+    public double getDurationMs() {
+        return durationMs;
+    }
+    
+    /**
+     * Bytes transferred over the wire (compressed, including headers), or -1 if unknown
+     */
+    public long getEncodedBytes() {
+        return encodedBytes;
+    }
+    
+    public boolean isFromCache() {
+        return fromCache;
+    }
+    
+    public String getErrorText() {
+        return errorText;
+    }
+    
+    public boolean isFailed() {
+        return errorText != null || status >= 400;
+    }
+    
+    /**
+     * Coarse resource type derived from the MIME type so both protocols group the same way
+     */
+    public String getResourceType() {
+        if (mimeType == null || mimeType.isEmpty()) {
+            return "other";
+        }
+        String mime = mimeType.toLowerCase();
+        if (mime.contains("html")) {
+            return "document";
+        } else if (mime.contains("javascript") || mime.contains("ecmascript")) {
+            return "script";
+        } else if (mime.contains("css")) {
+            return "stylesheet";
+        } else if (mime.startsWith("image/")) {
+            return "image";
+        } else if (mime.startsWith("font/") || mime.contains("font")) {
+            return "font";
+        } else if (mime.contains("json") || mime.contains("xml")) {
+            return "xhr";
+        }
+        return "other";
+    }
+    
+    void setUrl(String url) {
+        this.url = url;
+    }
+    
+    void setMethod(String method) {
+        this.method = method;
+    }
+    
+    void setStatus(int status) {
+        this.status = status;
+    }
+    
+    void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+    
+    void setStartEpochMs(long startEpochMs) {
+        this.startEpochMs = startEpochMs;
+    }
+    
+    void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+    
+    void setEncodedBytes(long encodedBytes) {
+        this.encodedBytes = encodedBytes;
+    }
+    
+    void setFromCache(boolean fromCache) {
+        this.fromCache = fromCache;
+    }
+    
+    void setErrorText(String errorText) {
+        this.errorText = errorText;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s %s - Status: %d, Type: %s, Duration: %.1fms, Bytes: %d, Cache: %s [%s]",
+                method, url, status, getResourceType(), durationMs, encodedBytes, fromCache, protocol);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.yourorg.interfaces;
+
+import com.yourorg.driver.network.ConsoleEvent;
+import com.yourorg.driver.network.NetworkEvent;
+
+import java.util.List;
+
+/**
+ * Interface for browser-neutral network and console capture
+ * Implemented over CDP for Chromium and WebDriver BiDi for Firefox
+ */
+public interface INetworkCapture {
+    void start();
+    void stop();
+    String getProtocol();
+    List<NetworkEvent> getNetworkEvents();
+    List<ConsoleEvent> getConsoleEvents();
+    void clear();
+}
\ No newline at end of file
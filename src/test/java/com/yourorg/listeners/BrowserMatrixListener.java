@@ -0,0 +1,82 @@
+package com.yourorg.listeners;
+
+import com.yourorg.base.BrowserMatrix;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fans every UI test out across the declared browser matrix
+ * Each browser gets its own copy of the test so all browsers run side by side in one suite
+ */
+public class BrowserMatrixListener implements IAlterSuiteListener {
+    private static final Logger logger = LogManager.getLogger(BrowserMatrixListener.class);
+    
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        List<String> browsers = BrowserMatrix.getBrowsers();
+        if (browsers.isEmpty()) {
+            return;
+        }
+        
+        for (XmlSuite suite : suites) {
+            int expandedTests = expandSuite(suite, browsers);
+            if (expandedTests == 0) {
+                continue;
+            }
+            
+            // Browsers run as parallel <test> copies, so wall time tracks the slowest browser
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.max(suite.getThreadCount(), BrowserMatrix.getTotalSessions()));
+            
+            logger.info("Browser matrix applied to suite {} - Browsers: {}, UI tests expanded: {}, Threads: {}",
+                    suite.getName(), browsers, expandedTests, suite.getThreadCount());
+        }
+    }
+    
+    private int expandSuite(XmlSuite suite, List<String> browsers) {
+        List<XmlTest> originalTests = new ArrayList<>(suite.getTests());
+        int expanded = 0;
+        
+        for (XmlTest test : originalTests) {
+            // Only UI tests declare a browser parameter
+            if (test.getLocalParameters().get("browser") == null) {
+                continue;
+            }
+            
+            String baseName = test.getName();
+            for (String browser : browsers.subList(1, browsers.size())) {
+                XmlTest copy = copyForBrowser(suite, test, baseName, browser);
+                if (suite.getTests().stream().noneMatch(existing -> existing == copy)) {
+                    suite.getTests().add(copy);
+                }
+            }
+            
+            test.setName(baseName + " [" + browsers.get(0) + "]");
+            test.addParameter("browser", browsers.get(0));
+            test.addParameter(BrowserMatrix.MATRIX_PARAMETER, browsers.get(0));
+            expanded++;
+        }
+        
+        return expanded;
+    }
+    
+    private XmlTest copyForBrowser(XmlSuite suite, XmlTest test, String baseName, String browser) {
+        XmlTest copy = (XmlTest) test.clone();
+        copy.setSuite(suite);
+        copy.setName(baseName + " [" + browser + "]");
+        copy.setXmlClasses(test.getXmlClasses().stream()
+                .map(xmlClass -> (XmlClass) xmlClass.clone())
+                .collect(Collectors.toList()));
+        copy.addParameter("browser", browser);
+        copy.addParameter(BrowserMatrix.MATRIX_PARAMETER, browser);
+        return copy;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.yourorg.listeners;
+
+import com.yourorg.api.metrics.LatencyHistogram;
+import com.yourorg.common.PerfTest;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ITestResult;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link PerfTest} methods as concurrent micro-benchmarks and fails them when a latency SLA or error budget is missed
+ * The summary is attached to the test result under {@link #RESULT_ATTRIBUTE} for the reporting listeners
+ */
+public class PerfTestListener implements IHookable {
+    private static final Logger logger = LogManager.getLogger(PerfTestListener.class);
+    public static final String RESULT_ATTRIBUTE = "perfTest";
+    
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        Method method = testResult.getMethod().getConstructorOrMethod().getMethod();
+        PerfTest perfTest = method != null ? method.getAnnotation(PerfTest.class) : null;
+        if (perfTest == null) {
+            callBack.runTestMethod(testResult);
+            return;
+        }
+        
+        String name = testResult.getMethod().getMethodName();
+        Object instance = testResult.getInstance();
+        Object[] parameters = callBack.getParameters();
+        int concurrency = Math.max(1, perfTest.concurrency());
+        
+        AtomicInteger workerCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "perf-" + name + "-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        logger.info("Starting perf test {} - Iterations: {}, Concurrency: {}, Warmup: {}",
+                name, perfTest.iterations(), concurrency, perfTest.warmup());
+        
+        Map<String, Object> summary;
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(perfTest.timeoutSeconds());
+            invokeAll(workers, perfTest.warmup(), method, instance, parameters, null, deadline);
+            
+            LatencyHistogram latency = new LatencyHistogram();
+            Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+            long start = System.nanoTime();
+            invokeAll(workers, perfTest.iterations(), method, instance, parameters,
+                    new Recorder(latency, errors), deadline);
+            long wallNanos = System.nanoTime() - start;
+            
+            summary = summarize(perfTest, latency, errors, wallNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Perf test " + name + " interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+        
+        testResult.setAttribute(RESULT_ATTRIBUTE, summary);
+        logger.info("Perf test {} - {}", name, summary);
+        
+        List<String> violations = violations(perfTest, summary);
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Perf test " + name + " missed its SLA: " + String.join("; ", violations)
+                    + " " + summary);
+        }
+    }
+    
+    private static void invokeAll(ExecutorService workers, int invocations, Method method, Object instance,
+                                  Object[] parameters, Recorder recorder, long deadline) throws InterruptedException {
+        if (invocations <= 0) {
+            return;
+        }
+        
+        CountDownLatch completed = new CountDownLatch(invocations);
+        for (int i = 0; i < invocations; i++) {
+            workers.execute(() -> {
+                long start = System.nanoTime();
+                Throwable error = null;
+                try {
+                    method.invoke(instance, parameters);
+                } catch (InvocationTargetException e) {
+                    error = e.getCause();
+                } catch (Exception e) {
+                    error = e;
+                }
+                if (recorder != null) {
+                    recorder.record(System.nanoTime() - start, error);
+                }
+                completed.countDown();
+            });
+        }
+        
+        if (!completed.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            throw new AssertionError(String.format("Perf test timed out with %d of %d invocations complete",
+                    invocations - completed.getCount(), invocations));
+        }
+    }
+    
+    private static Map<String, Object> summarize(PerfTest perfTest, LatencyHistogram latency,
+                                                 Map<String, AtomicInteger> errors, long wallNanos) {
+        long failed = errors.values().stream().mapToLong(AtomicInteger::get).sum();
+        
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("iterations", perfTest.iterations());
+        summary.put("concurrency", perfTest.concurrency());
+        summary.put("warmup", perfTest.warmup());
+        summary.put("throughputPerSecond", wallNanos > 0 ? Math.round(latency.getCount() * 1e9 / wallNanos * 10) / 10.0 : 0.0);
+        summary.putAll(latency.summary());
+        summary.put("errors", failed);
+        summary.put("errorRate", latency.getCount() > 0 ? (double) failed / latency.getCount() : 0.0);
+        
+        Map<String, Integer> errorCounts = new LinkedHashMap<>();
+        errors.forEach((error, count) -> errorCounts.put(error, count.get()));
+        summary.put("errorCounts", errorCounts);
+        return summary;
+    }
+    
+    private static List<String> violations(PerfTest perfTest, Map<String, Object> summary) {
+        List<String> violations = new ArrayList<>();
+        checkSla(violations, "p50", perfTest.p50Ms(), summary.get("p50Ms"));
+        checkSla(violations, "p90", perfTest.p90Ms(), summary.get("p90Ms"));
+        checkSla(violations, "p95", perfTest.p95Ms(), summary.get("p95Ms"));
+        checkSla(violations, "p99", perfTest.p99Ms(), summary.get("p99Ms"));
+        checkSla(violations, "max", perfTest.maxMs(), summary.get("maxMs"));
+        
+        double errorRate = (double) summary.get("errorRate");
+        if (errorRate > perfTest.maxErrorRate()) {
+            violations.add(String.format("error rate %.2f%% > %.2f%%", errorRate * 100, perfTest.maxErrorRate() * 100));
+        }
+        return violations;
+    }
+    
+    private static void checkSla(List<String> violations, String label, long limitMs, Object actualMs) {
+        if (limitMs >= 0 && ((Number) actualMs).doubleValue() > limitMs) {
+            violations.add(String.format("%s %sms > %dms", label, actualMs, limitMs));
+        }
+    }
+    
+    /**
+     * Measured invocations: latency of every call and failures grouped by exception message
+     */
+    private static class Recorder {
+        private final LatencyHistogram latency;
+        private final Map<String, AtomicInteger> errors;
+        
+        Recorder(LatencyHistogram latency, Map<String, AtomicInteger> errors) {
+            this.latency = latency;
+            this.errors = errors;
+        }
+        
+        void record(long nanos, Throwable error) {
+            latency.recordNanos(nanos);
+            if (error != null) {
+                String key = error.getClass().getSimpleName() + ": " + error.getMessage();
+                errors.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.yourorg.listeners;
+
+import com.yourorg.api.stub.StubServer;
+import com.yourorg.utils.ConfigLoader;
+import io.restassured.RestAssured;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Starts the embedded stub API before the suite when enabled and points api.base.url at it
+ */
+public class StubServerListener implements ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(StubServerListener.class);
+    
+    @Override
+    public void onStart(ISuite suite) {
+        if (!StubServer.isEnabled()) {
+            return;
+        }
+        
+        try {
+            String baseUrl = StubServer.getInstance().start();
+            ConfigLoader.override("api.base.url", baseUrl);
+            RestAssured.baseURI = baseUrl;
+            logger.info("Suite {} running against stub API at {}", suite.getName(), baseUrl);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to start stub API server", e);
+        }
+    }
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        if (StubServer.isRunning()) {
+            StubServer.getInstance().stop();
+        }
+    }
+}
\ No newline at end of file
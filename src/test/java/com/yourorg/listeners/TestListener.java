@@ -4,25 +4,50 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.yourorg.api.cassette.CassetteManager;
+import com.yourorg.api.json.ParsedResponse;
+import com.yourorg.api.managers.HttpConnectionManager;
+import com.yourorg.api.managers.TokenManager;
+import com.yourorg.api.metrics.EndpointMetricsRegistry;
+import com.yourorg.base.BrowserMatrix;
 import com.yourorg.base.WebDriverFactory;
+import com.yourorg.driver.BrowserProfileTemplate;
+import com.yourorg.driver.BrowserStartupMetrics;
+import com.yourorg.driver.TimingVarianceStats;
+import com.yourorg.driver.network.NetworkCaptureStats;
 import com.yourorg.utils.ScreenshotUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
     private static final Logger logger = LogManager.getLogger(TestListener.class);
     private static ExtentReports extent;
     private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static final Map<String, BrowserStats> browserStats = new ConcurrentHashMap<>();
 
     @Override
     public void onStart(org.testng.ITestContext context) {
         logger.info("Test suite started: {}", context.getName());
+        initializeReport();
+    }
+
+    private static synchronized void initializeReport() {
+        // Parallel <test> blocks (e.g. browser matrix copies) share one report
+        if (extent != null) {
+            return;
+        }
         
         // Initialize Extent Reports
         String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
@@ -47,16 +72,23 @@ public class TestListener implements ITestListener {
     public void onTestStart(ITestResult result) {
         logger.info("Test started: {}", result.getMethod().getMethodName());
         
-        ExtentTest test = extent.createTest(result.getMethod().getMethodName());
+        String browser = BrowserMatrix.resolveBrowser(result);
+        String testName = result.getMethod().getMethodName();
+        ExtentTest test = extent.createTest(browser != null ? testName + " [" + browser + "]" : testName);
+        if (browser != null) {
+            test.assignDevice(browser);
+        }
         extentTest.set(test);
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
         logger.info("Test passed: {}", result.getMethod().getMethodName());
+        recordBrowserResult(result);
         
         ExtentTest test = extentTest.get();
         test.log(Status.PASS, "Test passed successfully");
+        logPerfTestResult(result, test);
         
         long executionTime = result.getEndMillis() - result.getStartMillis();
         test.info("Execution Time: " + executionTime + "ms");
@@ -65,10 +97,12 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestFailure(ITestResult result) {
         logger.error("Test failed: {}", result.getMethod().getMethodName());
+        recordBrowserResult(result);
         
         ExtentTest test = extentTest.get();
         test.log(Status.FAIL, "Test failed");
         test.log(Status.FAIL, result.getThrowable());
+        logPerfTestResult(result, test);
         
         // Take screenshot on failure
         String screenshotPath = captureScreenshotOnFailure(result);
@@ -80,9 +114,17 @@ public class TestListener implements ITestListener {
         test.info("Execution Time: " + executionTime + "ms");
     }
 
+    private static void logPerfTestResult(ITestResult result, ExtentTest test) {
+        Object summary = result.getAttribute(PerfTestListener.RESULT_ATTRIBUTE);
+        if (summary != null) {
+            test.info("Performance: " + summary);
+        }
+    }
+
     @Override
     public void onTestSkipped(ITestResult result) {
         logger.warn("Test skipped: {}", result.getMethod().getMethodName());
+        recordBrowserResult(result);
         
         ExtentTest test = extentTest.get();
         test.log(Status.SKIP, "Test skipped");
@@ -109,6 +151,81 @@ public class TestListener implements ITestListener {
                 totalTests, passedTests, failedTests, skippedTests);
     }
 
+    @Override
+    public void onFinish(ISuite suite) {
+        BrowserStartupMetrics.logComparison();
+        TimingVarianceStats.logSummary();
+        NetworkCaptureStats.logComparison();
+        if (HttpConnectionManager.isInitialized()) {
+            HttpConnectionManager.getInstance().logStats();
+        }
+        if (TokenManager.isInitialized()) {
+            TokenManager.getInstance().logStats();
+        }
+        if (CassetteManager.isInitialized()) {
+            CassetteManager.getInstance().finish();
+        }
+        ParsedResponse.logStats();
+        if (EndpointMetricsRegistry.isInitialized()) {
+            EndpointMetricsRegistry.getInstance().logSummary();
+            EndpointMetricsRegistry.getInstance().export();
+        }
+        
+        long profileSavingMs = BrowserProfileTemplate.getFirstLoadSavingMs();
+        if (profileSavingMs >= 0 && extent != null) {
+            extent.setSystemInfo("Profile Template First Load Saving", profileSavingMs + "ms");
+        }
+        
+        if (browserStats.isEmpty()) {
+            return;
+        }
+        
+        // Matrix wall time should approach the slowest browser rather than the sum of all browsers
+        long suiteStart = browserStats.values().stream().mapToLong(stats -> stats.firstStart.get()).min().orElse(0);
+        long suiteEnd = browserStats.values().stream().mapToLong(stats -> stats.lastEnd.get()).max().orElse(0);
+        long slowestBrowser = browserStats.values().stream().mapToLong(BrowserStats::wallTime).max().orElse(0);
+        long summedBrowsers = browserStats.values().stream().mapToLong(BrowserStats::wallTime).sum();
+        
+        browserStats.forEach((browser, stats) -> {
+            logger.info("Browser Summary [{}] - Passed: {}, Failed: {}, Skipped: {}, Wall Time: {}ms",
+                    browser, stats.passed.get(), stats.failed.get(), stats.skipped.get(), stats.wallTime());
+            if (extent != null) {
+                extent.setSystemInfo("Browser " + browser, String.format("Passed: %d, Failed: %d, Skipped: %d, Wall Time: %dms",
+                        stats.passed.get(), stats.failed.get(), stats.skipped.get(), stats.wallTime()));
+            }
+        });
+        
+        logger.info("Browser Matrix Wall Time: {}ms (slowest browser: {}ms, sequential equivalent: {}ms)",
+                suiteEnd - suiteStart, slowestBrowser, summedBrowsers);
+        
+        if (extent != null) {
+            extent.flush();
+        }
+    }
+
+    private void recordBrowserResult(ITestResult result) {
+        String browser = BrowserMatrix.resolveBrowser(result);
+        if (browser == null) {
+            return;
+        }
+        
+        BrowserStats stats = browserStats.computeIfAbsent(browser, key -> new BrowserStats());
+        stats.firstStart.accumulateAndGet(result.getStartMillis(), Math::min);
+        stats.lastEnd.accumulateAndGet(result.getEndMillis(), Math::max);
+        
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                stats.passed.incrementAndGet();
+                break;
+            case ITestResult.FAILURE:
+                stats.failed.incrementAndGet();
+                break;
+            default:
+                stats.skipped.incrementAndGet();
+                break;
+        }
+    }
+
     private String captureScreenshotOnFailure(ITestResult result) {
         try {
             WebDriver driver = WebDriverFactory.getDriver();
@@ -121,4 +238,16 @@ public class TestListener implements ITestListener {
         }
         return null;
     }
+
+    private static class BrowserStats {
+        final AtomicInteger passed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong lastEnd = new AtomicLong(0);
+
+        long wallTime() {
+            return Math.max(0, lastEnd.get() - firstStart.get());
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.yourorg.models.responses;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -17,12 +18,14 @@ public class PaginatedResponse<T> {
     private Integer page;
     
     @JsonProperty("pageSize")
+    @JsonAlias("size")
     private Integer pageSize;
     
     @JsonProperty("totalPages")
     private Integer totalPages;
     
     @JsonProperty("totalCount")
+    @JsonAlias("totalItems")
     private Long totalCount;
     
     @JsonProperty("hasNext")
@@ -31,6 +34,9 @@ public class PaginatedResponse<T> {
     @JsonProperty("hasPrevious")
     private Boolean hasPrevious;
     
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+    
     // Default constructor
     public PaginatedResponse() {}
     
@@ -56,6 +62,9 @@ public class PaginatedResponse<T> {
     public Boolean getHasPrevious() { return hasPrevious; }
     public void setHasPrevious(Boolean hasPrevious) { this.hasPrevious = hasPrevious; }
     
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    
     @Override
     public String toString() {
         return "PaginatedResponse{" +
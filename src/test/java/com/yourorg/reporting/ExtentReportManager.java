@@ -5,6 +5,7 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.yourorg.base.BrowserMatrix;
 import com.yourorg.interfaces.IReportManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -128,7 +129,9 @@ public class ExtentReportManager implements IReportManager {
         String description = Optional.ofNullable(result.getMethod().getDescription())
                 .orElse("Test execution");
         
-        createTest(testName, description);
+        // Browser matrix runs report the same test once per browser
+        String browser = BrowserMatrix.resolveBrowser(result);
+        createTest(browser != null ? testName + " [" + browser + "]" : testName, description);
         
         // Add test categories/groups
         String[] groups = result.getMethod().getGroups();
@@ -139,6 +142,10 @@ public class ExtentReportManager implements IReportManager {
             }
         }
         
+        if (browser != null) {
+            extentTest.get().assignDevice(browser);
+        }
+        
         logInfo("Test started: " + testName);
     }
     
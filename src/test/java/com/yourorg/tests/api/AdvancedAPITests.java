@@ -7,6 +7,7 @@ import com.yourorg.api.chains.ChainResult;
 import com.yourorg.api.managers.ResponseManager;
 import com.yourorg.api.managers.TokenManager;
 import com.yourorg.api.validators.SchemaValidator;
+import com.yourorg.api.validators.SchemaViolation;
 import com.yourorg.api.validators.StatusCodeValidator;
 import com.yourorg.base.BaseTest;
 import com.yourorg.utils.ConfigLoader;
@@ -293,8 +294,8 @@ public class AdvancedAPITests extends BaseTest {
             StatusCodeValidator.validateAndExplain(userResponse, 200);
             
             SchemaValidator.SchemaDefinition userSchema = SchemaValidator.CommonSchemas.userSchema();
-            boolean isValidUserSchema = schemaValidator.validateDynamicSchema(userResponse, userSchema);
-            Assert.assertTrue(isValidUserSchema, "User response should match expected schema");
+            List<SchemaViolation> userViolations = schemaValidator.validate(userResponse, userSchema);
+            Assert.assertTrue(userViolations.isEmpty(), "User response should match expected schema: " + userViolations);
             
             // Test paginated response schema
             Response paginatedResponse = new RequestBuilder()
@@ -1,6 +1,7 @@
 package com.yourorg.tests.api;
 
 import com.yourorg.base.BaseTest;
+import com.yourorg.common.PerfTest;
 import com.yourorg.utils.APIUtils;
 import com.yourorg.utils.ConfigLoader;
 import io.qameta.allure.Description;
@@ -129,4 +130,15 @@ public class UserServiceTest extends BaseTest {
         
         logger.info("User validation test completed successfully");
     }
+
+    // Performance group only: 220 calls at 10 concurrent callers would trip the QA API's rate limit in regression
+    @Test(priority = 6, dependsOnMethods = "testUserAuthentication", groups = {"performance"})
+    @Description("Test user profile latency under 10 concurrent callers")
+    @Severity(SeverityLevel.NORMAL)
+    @PerfTest(iterations = 200, concurrency = 10, warmup = 20, p95Ms = 1000, maxErrorRate = 0.01)
+    public void testUserProfilePerformance() throws Exception {
+        // Invoked repeatedly by PerfTestListener; each call is one measured sample
+        Response response = APIUtils.get("/users/profile");
+        APIUtils.validateStatusCode(response, 200);
+    }
 }
\ No newline at end of file
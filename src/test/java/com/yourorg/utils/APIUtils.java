@@ -1,5 +1,8 @@
 package com.yourorg.utils;
 
+import com.yourorg.api.builders.RequestSpecTemplates;
+import com.yourorg.api.metrics.EndpointMetrics;
+import com.yourorg.api.metrics.EndpointMetricsRegistry;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -19,17 +22,9 @@ public class APIUtils {
         }
     }
 
-    // Simple request specification
+    // Simple request specification, layered on a shared template for the current token
     public static RequestSpecification getRequestSpec() {
-        RequestSpecification spec = RestAssured.given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json");
-        
-        if (authToken != null) {
-            spec = spec.header("Authorization", "Bearer " + authToken);
-        }
-        
-        return spec;
+        return RequestSpecTemplates.given(null, "application/json", "application/json", authToken);
     }
 
     // HTTP Methods
@@ -104,4 +99,19 @@ public class APIUtils {
             throw new Exception("Response time exceeded");
         }
     }
+
+    // Checks the distribution of every call made so far to the endpoint, e.g. ("GET", "/users/{id}", 95, 300)
+    public static void validateEndpointPercentile(String method, String endpoint, double percentile, long maxTimeMs) throws Exception {
+        EndpointMetricsRegistry registry = EndpointMetricsRegistry.getInstance();
+        EndpointMetrics metrics = registry != null ? registry.get(method, endpoint) : null;
+        if (metrics == null || metrics.getCount() == 0) {
+            throw new Exception("No calls recorded for " + method + " " + endpoint);
+        }
+        double actualTime = metrics.getPercentileMs(percentile);
+        if (actualTime > maxTimeMs) {
+            logger.error("Endpoint p{} exceeded for {} {}. Expected: {}ms, Actual: {}ms",
+                    percentile, method, endpoint, maxTimeMs, actualTime);
+            throw new Exception("Endpoint response time percentile exceeded");
+        }
+    }
 }
\ No newline at end of file
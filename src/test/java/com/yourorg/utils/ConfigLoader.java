@@ -15,23 +15,34 @@ public class ConfigLoader {
         loadConfig();
     }
 
+    /**
+     * config.properties holds the defaults for every key; the environment file is layered on top of it
+     */
     private static void loadConfig() {
         properties = new Properties();
         String environment = System.getProperty("environment", "qa");
         String configFile = "config/" + environment + "-config.properties";
+        boolean loaded = false;
         
-        try {
-            properties.load(new FileInputStream(configFile));
+        try (FileInputStream defaults = new FileInputStream("config/config.properties")) {
+            properties.load(defaults);
+            loaded = true;
+            logger.info("Loaded default configuration");
+        } catch (IOException e) {
+            logger.warn("Failed to load default config: {}", e.getMessage());
+        }
+        
+        try (FileInputStream overrides = new FileInputStream(configFile)) {
+            properties.load(overrides);
+            loaded = true;
             logger.info("Loaded configuration from: {}", configFile);
         } catch (IOException e) {
-            logger.warn("Failed to load config: {}. Loading default config.", e.getMessage());
-            try {
-                properties.load(new FileInputStream("config/config.properties"));
-                logger.info("Loaded default configuration");
-            } catch (IOException ex) {
-                logger.error("Failed to load default configuration: {}", ex.getMessage());
-                throw new RuntimeException("Unable to load configuration files", ex);
-            }
+            logger.warn("Failed to load config: {}. Using default config only.", e.getMessage());
+        }
+        
+        if (!loaded) {
+            logger.error("Failed to load any configuration file");
+            throw new RuntimeException("Unable to load configuration files");
         }
     }
 
@@ -55,6 +66,14 @@ public class ConfigLoader {
         return defaultValue;
     }
 
+    /**
+     * Replace a value for the rest of the run, e.g. api.base.url when the suite starts the stub API
+     */
+    public static void override(String key, String value) {
+        properties.setProperty(key, value);
+        logger.info("Configuration override: {}={}", key, value);
+    }
+
     public static boolean getBoolean(String key, boolean defaultValue) {
         String value = properties.getProperty(key);
         if (value != null) {
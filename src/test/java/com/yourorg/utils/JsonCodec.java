@@ -0,0 +1,131 @@
+package com.yourorg.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared JSON codec: one configured ObjectMapper plus cached, thread-safe readers and writers per type
+ * Dates are written as ISO-8601 strings; the Blackbird module is registered when on the classpath
+ * unless json.codec.accelerated is false
+ */
+public final class JsonCodec {
+    private static final Logger logger = LogManager.getLogger(JsonCodec.class);
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST_TYPE =
+            new TypeReference<List<Map<String, Object>>>() {};
+    
+    private static final ObjectMapper MAPPER = newMapper(ConfigLoader.getBoolean("json.codec.accelerated", true));
+    private static final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+    
+    private JsonCodec() {
+    }
+    
+    /**
+     * A mapper with the framework configuration; most code should use {@link #mapper()} instead
+     * @param accelerated register Blackbird when it is available
+     */
+    public static ObjectMapper newMapper(boolean accelerated) {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (accelerated) {
+            try {
+                mapper.registerModule((Module) Class.forName(BLACKBIRD_MODULE).getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.debug("Blackbird module not available, using reflection-based accessors: {}", e.getMessage());
+            }
+        }
+        return mapper;
+    }
+    
+    /**
+     * The shared mapper; configure per call through readers and writers, never by mutating it
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+    
+    public static ObjectReader reader(Class<?> type) {
+        return readerFor(MAPPER.constructType(type));
+    }
+    
+    public static ObjectReader reader(TypeReference<?> type) {
+        return readerFor(MAPPER.getTypeFactory().constructType(type));
+    }
+    
+    public static ObjectReader listReader(Class<?> elementType) {
+        return readerFor(MAPPER.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+    
+    private static ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, MAPPER::readerFor);
+    }
+    
+    public static ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(MAPPER.constructType(type), MAPPER::writerFor);
+    }
+    
+    public static ObjectWriter prettyWriter() {
+        return PRETTY_WRITER;
+    }
+    
+    // Byte-level reads skip the String decode and copy
+    
+    public static <T> T read(byte[] json, Class<T> type) throws IOException {
+        return reader(type).readValue(json);
+    }
+    
+    public static <T> List<T> readList(byte[] json, Class<T> elementType) throws IOException {
+        return listReader(elementType).readValue(json);
+    }
+    
+    public static Map<String, Object> readMap(byte[] json) throws IOException {
+        return reader(MAP_TYPE).readValue(json);
+    }
+    
+    public static Map<String, Object> readMap(String json) throws IOException {
+        return reader(MAP_TYPE).readValue(json);
+    }
+    
+    public static List<Map<String, Object>> readMapList(byte[] json) throws IOException {
+        return reader(MAP_LIST_TYPE).readValue(json);
+    }
+    
+    public static Map<String, Object> readMap(Path file) throws IOException {
+        return readMap(Files.readAllBytes(file));
+    }
+    
+    public static List<Map<String, Object>> readMapList(Path file) throws IOException {
+        return readMapList(Files.readAllBytes(file));
+    }
+    
+    public static byte[] toBytes(Object value) throws IOException {
+        return value != null ? writer(value.getClass()).writeValueAsBytes(value) : MAPPER.writeValueAsBytes(null);
+    }
+    
+    public static String toJson(Object value) throws IOException {
+        return value != null ? writer(value.getClass()).writeValueAsString(value) : "null";
+    }
+    
+    public static String toPrettyJson(Object value) throws IOException {
+        return PRETTY_WRITER.writeValueAsString(value);
+    }
+}
\ No newline at end of file
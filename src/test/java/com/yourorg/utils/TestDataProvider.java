@@ -1,7 +1,5 @@
 package com.yourorg.utils;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,14 +10,12 @@ import java.util.*;
 
 public class TestDataProvider {
     private static final Logger logger = LogManager.getLogger(TestDataProvider.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     // Get test data from JSON file
     public static Map<String, Object> getTestData(String fileName) {
         try {
             String filePath = "src/test/resources/testdata/" + fileName + ".json";
-            String jsonContent = Files.readString(Paths.get(filePath));
-            Map<String, Object> data = objectMapper.readValue(jsonContent, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> data = JsonCodec.readMap(Paths.get(filePath));
             logger.info("Test data loaded from: {}", fileName);
             return data;
         } catch (Exception e) {
@@ -32,8 +28,7 @@ public class TestDataProvider {
     public static List<Map<String, Object>> getBulkTestData(String fileName) {
         try {
             String filePath = "src/test/resources/testdata/" + fileName + ".json";
-            String jsonContent = Files.readString(Paths.get(filePath));
-            List<Map<String, Object>> data = objectMapper.readValue(jsonContent, new TypeReference<List<Map<String, Object>>>() {});
+            List<Map<String, Object>> data = JsonCodec.readMapList(Paths.get(filePath));
             logger.info("Bulk test data loaded from: {} ({} records)", fileName, data.size());
             return data;
         } catch (Exception e) {